@@ -0,0 +1,58 @@
+package seedu.address.commons.util;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link StringUtil#containsWordIgnoreCase(String, String)} with the regex-splitting version it replaced.
+ * Run with {@code -prof gc} to compare the allocation rates as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StringUtilBenchmark {
+
+    @Param({"Alex Yeoh", "Bernice Yu Xiao Ling Tan Hui Min"})
+    public String sentence;
+
+    @Param({"yeoh", "Charlotte"})
+    public String word;
+
+    @Benchmark
+    public boolean containsWordIgnoreCase() {
+        return StringUtil.containsWordIgnoreCase(sentence, word);
+    }
+
+    @Benchmark
+    public boolean containsWordIgnoreCaseBySplitting() {
+        return containsWordIgnoreCaseBySplitting(sentence, word);
+    }
+
+    /**
+     * The previous implementation of {@link StringUtil#containsWordIgnoreCase(String, String)}, kept as a baseline.
+     */
+    private static boolean containsWordIgnoreCaseBySplitting(String sentence, String word) {
+        String preppedWord = word.trim();
+        AppUtil.checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+        AppUtil.checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+
+        String[] wordsInPreppedSentence = sentence.split("\\s+");
+
+        return Arrays.stream(wordsInPreppedSentence)
+                .anyMatch(preppedWord::equalsIgnoreCase);
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.testutil.PersonUtil;
+import seedu.address.testutil.SyntheticPersons;
+
+/**
+ * Measures parsing typical user input. Parsing does not depend on the size of the address book.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AddressBookParserBenchmark {
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private final String addCommand = PersonUtil.getAddCommand(SyntheticPersons.getPerson(12345));
+    private final String addArguments = " " + PersonUtil.getPersonDetails(SyntheticPersons.getPerson(12345));
+
+    @Benchmark
+    public Command parseAddCommand() throws ParseException {
+        return parser.parseCommand(addCommand);
+    }
+
+    @Benchmark
+    public Command parseEditCommand() throws ParseException {
+        return parser.parseCommand("edit 1 p/91234567 e/johndoe@example.com t/friends t/colleagues");
+    }
+
+    @Benchmark
+    public Command parseFindCommand() throws ParseException {
+        return parser.parseCommand("find alex bernice charlotte");
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(addArguments, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                PREFIX_TAG);
+    }
+}
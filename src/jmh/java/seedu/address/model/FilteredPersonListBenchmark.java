@@ -0,0 +1,78 @@
+package seedu.address.model;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.SyntheticPersons;
+
+/**
+ * Measures changing a single person in a model holding {@code size} persons, while its filtered person list shows the
+ * persons found by name. The filtered person list is kept up to date at each change, so the time taken should not
+ * grow with {@code size}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class FilteredPersonListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private ModelManager model;
+    private Person personToEdit;
+    private Person editedPerson;
+    private Person personToAdd;
+
+    @Setup(Level.Trial)
+    public void createModel() {
+        model = new ModelManager(SyntheticPersons.getAddressBook(size), new UserPrefs());
+        model.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("yeoh", "charlotte"))
+                .lookUpWith(model::getPersonsWithNameWord));
+
+        // Each edit moves the person into or out of the filtered person list
+        personToEdit = SyntheticPersons.getPerson(size / 2);
+        editedPerson = new PersonBuilder(personToEdit).withName("Charlotte Edited " + size / 2).build();
+        if (model.getFilteredPersonList().contains(personToEdit)) {
+            editedPerson = new PersonBuilder(personToEdit).withName("Edited " + size / 2).build();
+        }
+        personToAdd = new PersonBuilder(SyntheticPersons.getPerson(size)).withName("Charlotte Added").build();
+    }
+
+    @Benchmark
+    public int editPerson() {
+        model.setPerson(personToEdit, editedPerson);
+        model.commitAddressBook();
+        Person swap = personToEdit;
+        personToEdit = editedPerson;
+        editedPerson = swap;
+        return model.getFilteredPersonList().size();
+    }
+
+    @Benchmark
+    public int addAndDeletePerson() {
+        model.addPerson(personToAdd);
+        model.commitAddressBook();
+        model.deletePerson(personToAdd);
+        model.commitAddressBook();
+        return model.getFilteredPersonList().size();
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonHasTagsPredicate;
+import seedu.address.model.person.PhoneStartsWithPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.SyntheticPersons;
+
+/**
+ * Measures updating the filtered person list of a model holding {@code size} persons.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class ModelManagerBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private final NameContainsKeywordsPredicate predicate =
+            new NameContainsKeywordsPredicate(Arrays.asList("yeoh", "charlotte"));
+    private final PersonHasTagsPredicate tagsPredicate = new PersonHasTagsPredicate(Arrays.asList(
+            Set.of(new Tag("friends"), new Tag("colleagues")), Set.of(new Tag("owesMoney"))));
+    private final NameContainsKeywordsPredicate fuzzyPredicate =
+            new NameContainsKeywordsPredicate(List.of(), Arrays.asList("yeho", "charlote"));
+    // Every synthetic name ends with a distinct number, so numbers are the most crowded words to search
+    private final NameContainsKeywordsPredicate fuzzyNumberPredicate =
+            new NameContainsKeywordsPredicate(List.of(), List.of("123457"));
+    private final PhoneStartsWithPredicate phonePredicate = new PhoneStartsWithPredicate(List.of("8000012"));
+    private ModelManager model;
+
+    @Setup(Level.Trial)
+    public void createModel() {
+        model = new ModelManager(SyntheticPersons.getAddressBook(size), new UserPrefs());
+    }
+
+    @Benchmark
+    public int filterByScanningNames() {
+        model.updateFilteredPersonList(predicate);
+        return model.getFilteredPersonList().size();
+    }
+
+    @Benchmark
+    public int filterByNameIndex() {
+        model.updateFilteredPersonList(predicate.lookUpWith(model::getPersonsWithNameWord));
+        return model.getFilteredPersonList().size();
+    }
+
+    @Benchmark
+    public int findFuzzyNameMatches() {
+        return fuzzyPredicate.findFuzzyMatches(model::getNameWordsWithin).size();
+    }
+
+    @Benchmark
+    public int findFuzzyNumberMatches() {
+        return fuzzyNumberPredicate.findFuzzyMatches(model::getNameWordsWithin).size();
+    }
+
+    @Benchmark
+    public int filterByScanningTags() {
+        model.updateFilteredPersonList(tagsPredicate);
+        return model.getFilteredPersonList().size();
+    }
+
+    @Benchmark
+    public int filterByTagIndex() {
+        model.updateFilteredPersonList(tagsPredicate.lookUpWith(model::getPersonsWithTag));
+        return model.getFilteredPersonList().size();
+    }
+
+    @Benchmark
+    public int filterByScanningPhones() {
+        model.updateFilteredPersonList(phonePredicate);
+        return model.getFilteredPersonList().size();
+    }
+
+    @Benchmark
+    public int filterByPhoneIndex() {
+        model.updateFilteredPersonList(phonePredicate,
+                phonePredicate.lookUpMatches(model::getPersonsWithPhonePrefix));
+        return model.getFilteredPersonList().size();
+    }
+
+    @Benchmark
+    public int showAllPersons() {
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        return model.getFilteredPersonList().size();
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.testutil.SyntheticPersons;
+
+/**
+ * Measures adding persons to, and looking persons up in, a {@code UniquePersonList} of {@code size} persons.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class UniquePersonListBenchmark {
+
+    private static final int ADDS_PER_ITERATION = 1000;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private List<Person> persons;
+    private List<Person> personsToAdd;
+    private UniquePersonList uniquePersonList;
+    private int nextPersonToAdd;
+
+    @Setup(Level.Trial)
+    public void generatePersons() {
+        List<Person> generated = SyntheticPersons.getPersons(size + ADDS_PER_ITERATION);
+        persons = generated.subList(0, size);
+        personsToAdd = generated.subList(size, generated.size());
+    }
+
+    @Setup(Level.Iteration)
+    public void resetList() {
+        uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(persons);
+        nextPersonToAdd = 0;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 3, batchSize = ADDS_PER_ITERATION)
+    @Measurement(iterations = 10, batchSize = ADDS_PER_ITERATION)
+    public void add() {
+        uniquePersonList.add(personsToAdd.get(nextPersonToAdd++));
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return uniquePersonList.contains(persons.get(size / 2));
+    }
+
+    @Benchmark
+    public int getPersonsWithNameWord() {
+        return uniquePersonList.getPersonsWithNameWord("yeoh").size();
+    }
+}
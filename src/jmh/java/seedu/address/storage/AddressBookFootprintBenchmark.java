@@ -0,0 +1,87 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.SyntheticPersons;
+
+/**
+ * Measures the heap retained by an address book of {@code size} persons read from a json file.
+ * The retained bytes per person are printed after each iteration. For a breakdown by class, run
+ * {@code jmap -histo:live} against the forked JVM while the benchmark runs.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-XX:+UseSerialGC"})
+@State(Scope.Thread)
+public class AddressBookFootprintBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    private Path filePath;
+    private JsonAddressBookStorage storage;
+    private ReadOnlyAddressBook addressBook;
+    private long heapUsedBefore;
+
+    @Setup(Level.Trial)
+    public void saveAddressBook() throws IOException {
+        filePath = Files.createTempFile("addressbook", ".json");
+        storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(SyntheticPersons.getAddressBook(size));
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(filePath);
+    }
+
+    @Setup(Level.Iteration)
+    public void measureHeapBefore() {
+        addressBook = null;
+        heapUsedBefore = getHeapUsedAfterGc();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printRetainedHeap() {
+        long retainedBytes = getHeapUsedAfterGc() - heapUsedBefore;
+        System.out.printf("%n%d persons retain %d bytes, %d bytes per person%n",
+                addressBook.getPersonList().size(), retainedBytes, retainedBytes / size);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook read() throws DataConversionException {
+        addressBook = storage.readAddressBook().get();
+        return addressBook;
+    }
+
+    private static long getHeapUsedAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
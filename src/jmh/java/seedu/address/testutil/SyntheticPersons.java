@@ -0,0 +1,64 @@
+package seedu.address.testutil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Generates distinct persons for benchmarks over address books of any size.
+ * The same index always generates the same person.
+ */
+public class SyntheticPersons {
+
+    public static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei",
+        "Siti", "Ravi", "Mei"};
+    public static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan",
+        "Lim", "Kumar", "Ong", "Goh", "Ng"};
+    public static final String[] TAGS = {"friends", "colleagues", "family", "neighbours", "owesMoney"};
+
+    /**
+     * Returns the person generated for {@code index}.
+     */
+    public static Person getPerson(int index) {
+        String name = FIRST_NAMES[index % FIRST_NAMES.length] + " "
+                + LAST_NAMES[(index / FIRST_NAMES.length) % LAST_NAMES.length] + " " + index;
+        return new PersonBuilder()
+                .withName(name)
+                .withPhone(String.valueOf(80000000L + index))
+                .withEmail("person" + index + "@example.com")
+                .withAddress((index % 999 + 1) + ", Jurong West Ave " + (index % 10) + ", #08-111")
+                .withTags(getTags(index))
+                .build();
+    }
+
+    /**
+     * Returns the persons generated for the indexes from {@code 0} to {@code count - 1}.
+     */
+    public static List<Person> getPersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(getPerson(i));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an {@code AddressBook} with the persons generated for the indexes from {@code 0} to {@code count - 1}.
+     */
+    public static AddressBook getAddressBook(int count) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(getPersons(count));
+        return addressBook;
+    }
+
+    private static String[] getTags(int index) {
+        int tagCount = index % 3;
+        String[] tags = new String[tagCount];
+        for (int i = 0; i < tagCount; i++) {
+            tags[i] = TAGS[(index + i) % TAGS.length];
+        }
+        return tags;
+    }
+}
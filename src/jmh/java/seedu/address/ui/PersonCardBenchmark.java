@@ -0,0 +1,70 @@
+package seedu.address.ui;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.layout.Region;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.SyntheticPersons;
+
+/**
+ * Measures creating a person card, against loading the FXML file that a card used to be loaded from, and reusing a
+ * card to display another person.
+ * The JavaFX toolkit is started for the nodes to be created, so a display is needed to run this benchmark.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersonCardBenchmark {
+
+    private final URL fxmlFileUrl = PersonCardBenchmark.class.getResource("PersonListCard.fxml");
+    private final Person person = SyntheticPersons.getPerson(12345);
+    private final Person otherPerson = SyntheticPersons.getPerson(54321);
+    private PersonCard card;
+    private boolean isShowingPerson;
+
+    @Setup(Level.Trial)
+    public void startToolkit() {
+        try {
+            Platform.startup(() -> {});
+        } catch (IllegalStateException ise) {
+            // The toolkit has already been started
+        }
+        card = new PersonCard(person, 1);
+    }
+
+    @Benchmark
+    public Region createCard() {
+        return new PersonCard(person, 1).getRoot();
+    }
+
+    @Benchmark
+    public Object loadCardFromFxml() throws IOException {
+        return FXMLLoader.load(fxmlFileUrl);
+    }
+
+    @Benchmark
+    public Region reuseCard() {
+        isShowingPerson = !isShowingPerson;
+        card.setPerson(isShowingPerson ? otherPerson : person, 1);
+        return card.getRoot();
+    }
+}
@@ -1,12 +1,15 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
@@ -23,11 +26,15 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.MappedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindAddressBookStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -46,6 +53,10 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    // Whether storage's address book file holds the data that the model starts with, or is to be left as it is until
+    // the data changes, so that it need not be saved before then
+    private boolean isAddressBookSaved;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
@@ -56,43 +67,148 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage formatStorage = initAddressBookStorage(userPrefs);
+        AddressBookStorage addressBookStorage = new WriteBehindAddressBookStorage(formatStorage);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
-
-        logic = new LogicManager(model, storage);
+        AddressBookStorage otherFormatStorage = initOtherFormatStorage(userPrefs);
+        Optional<ReadOnlyAddressBook> lazilyReadAddressBook = readAddressBookLazily(formatStorage, otherFormatStorage);
+        if (lazilyReadAddressBook.isPresent()) {
+            model = new ModelManager(new AddressBook(), userPrefs);
+            logic = new LogicManager(model, storage, lazilyReadAddressBook.get().getPersonList());
+        } else {
+            model = initModelManager(storage, userPrefs, otherFormatStorage);
+            logic = new LogicManager(model, storage, isAddressBookSaved);
+        }
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the data file format chosen in {@code userPrefs}, which stores the
+     * address book at the path given by {@link AddressBookFormat#toFilePath(Path)}.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        AddressBookFormat format = userPrefs.getAddressBookFormat();
+        Path addressBookFilePath = format.toFilePath(userPrefs.getAddressBookFilePath());
+        logger.info("Using data file format : " + format + " at " + addressBookFilePath);
+
+        switch (format) {
+        case JOURNAL:
+            return new JournalAddressBookStorage(addressBookFilePath);
+        case BINARY:
+            return new BinaryAddressBookStorage(addressBookFilePath);
+        case MAPPED:
+            return new MappedAddressBookStorage(addressBookFilePath);
+        default:
+            return new JsonAddressBookStorage(addressBookFilePath);
+        }
+    }
+
+    /**
+     * Returns the storage of the data file that the formats other than the one chosen in {@code userPrefs} keep the
+     * address book in: the json data file for the binary formats, and the binary data file for the json formats.
+     */
+    private AddressBookStorage initOtherFormatStorage(ReadOnlyUserPrefs userPrefs) {
+        Path dataFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookFormat format = userPrefs.getAddressBookFormat();
+        if (format == AddressBookFormat.BINARY || format == AddressBookFormat.MAPPED) {
+            // Reads a plain json data file as well, and replays the journal of one if it has a valid journal
+            return new JournalAddressBookStorage(dataFilePath);
+        }
+        return new BinaryAddressBookStorage(AddressBookFormat.BINARY.toFilePath(dataFilePath));
+    }
+
+    /**
+     * Returns the address book in {@code addressBookStorage} with its persons decoded only as they are shown, if it is
+     * a {@code MappedAddressBookStorage} whose data file is found and is not older than the one in
+     * {@code otherFormatStorage}. The model then starts empty, and is given the address book once the
+     * {@code LogicManager} has read it in full. Otherwise the model is initialized by {@link #initModelManager}, which
+     * also reports any problem with the data file.
+     */
+    private Optional<ReadOnlyAddressBook> readAddressBookLazily(AddressBookStorage addressBookStorage,
+            AddressBookStorage otherFormatStorage) {
+        if (!(addressBookStorage instanceof MappedAddressBookStorage)) {
+            return Optional.empty();
+        }
+
+        try {
+            if (isNewerDataFile(otherFormatStorage.getAddressBookFilePath(),
+                    addressBookStorage.getAddressBookFilePath())) {
+                return Optional.empty();
+            }
+            return ((MappedAddressBookStorage) addressBookStorage).readAddressBookLazily();
+        } catch (DataConversionException | IOException e) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * If the address book in {@code otherFormatStorage} is newer, or {@code storage}'s is not found, the one in
+     * {@code otherFormatStorage} is read instead, so that no changes are lost when the data file format is changed.
+     * Sample and converted data are marked as not saved, so that they are saved to {@code storage} after the first
+     * command. A data file that cannot be read is left as it is until the address book is changed.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs,
+            AddressBookStorage otherFormatStorage) {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
-            addressBookOptional = storage.readAddressBook();
+            Path otherFormatFilePath = otherFormatStorage.getAddressBookFilePath();
+            if (isNewerDataFile(otherFormatFilePath, storage.getAddressBookFilePath())) {
+                logger.info("Data file " + otherFormatFilePath + " of another format is newer. Reading it instead");
+                addressBookOptional = otherFormatStorage.readAddressBook();
+                isAddressBookSaved = false;
+            } else {
+                addressBookOptional = storage.readAddressBook();
+                isAddressBookSaved = addressBookOptional.isPresent();
+            }
             if (!addressBookOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample AddressBook");
+                isAddressBookSaved = false;
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
             initialData = new AddressBook();
+            isAddressBookSaved = true;
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
             initialData = new AddressBook();
+            isAddressBookSaved = true;
         }
 
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns true if the data file at {@code filePath} exists and is another file than the one at
+     * {@code otherFilePath}, which either does not exist or was last modified before it.
+     * The last modification of a json data file includes that of its journal.
+     */
+    private static boolean isNewerDataFile(Path filePath, Path otherFilePath) throws IOException {
+        if (filePath.equals(otherFilePath) || !Files.exists(filePath)) {
+            return false;
+        }
+        return !Files.exists(otherFilePath)
+                || getLastModifiedTime(filePath).compareTo(getLastModifiedTime(otherFilePath)) > 0;
+    }
+
+    private static FileTime getLastModifiedTime(Path dataFilePath) throws IOException {
+        FileTime lastModifiedTime = Files.getLastModifiedTime(dataFilePath);
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(dataFilePath);
+        if (Files.exists(journalFilePath)) {
+            FileTime journalLastModifiedTime = Files.getLastModifiedTime(journalFilePath);
+            return journalLastModifiedTime.compareTo(lastModifiedTime) > 0 ? journalLastModifiedTime : lastModifiedTime;
+        }
+        return lastModifiedTime;
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -174,10 +290,16 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        logic.stop();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -0,0 +1,43 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+/**
+ * The formats in which the address book data file can be stored.
+ */
+public enum AddressBookFormat {
+    /** The whole address book is rewritten as a single json file on every save. */
+    JSON(null),
+    /** A json snapshot plus an append-only journal of the changes made since the snapshot. */
+    JOURNAL(null),
+    /** A compact binary file, rewritten as a whole on every save. */
+    BINARY(".bin"),
+    /** The binary file, memory-mapped when the app starts so that persons are shown before all of them are read. */
+    MAPPED(".bin");
+
+    // The extension that the files of this format are given, or null if they keep the data file path as it is
+    private final String fileExtension;
+
+    AddressBookFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Returns the path that this format stores the address book at, given the data file path in the user prefs.
+     * The json formats use the data file path as it is, whatever its extension. The binary formats replace its
+     * extension with {@code .bin}, so that the json data file is not overwritten with binary data.
+     */
+    public Path toFilePath(Path filePath) {
+        requireNonNull(filePath);
+        String fileName = filePath.getFileName().toString();
+        if (fileExtension == null || fileName.endsWith(fileExtension)) {
+            return filePath;
+        }
+
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + fileExtension);
+    }
+}
@@ -0,0 +1,334 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable list whose modified copies share all but a small part of their structure with the original.
+ *
+ * The elements are kept in a balanced binary tree in list order, each node holding a short run of consecutive
+ * elements and recording the number of elements in its subtree. Reading, replacing, inserting or removing the element
+ * at a position takes O(log n) time, and a modified copy allocates only the O(log n) nodes on the path to that
+ * position. Keeping the list as it was before a modification therefore costs no more than keeping a reference to it.
+ *
+ * @param <T> the type of the elements
+ */
+public final class PersistentList<T> extends AbstractList<T> {
+
+    /** The most elements a node holds. A node that would hold more is split in two. */
+    private static final int NODE_CAPACITY = 32;
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node root;
+
+    // The run of elements last read by get, so that reading the elements in order rarely descends the tree. It is not
+    // part of the state of the list, and as a Run is immutable, threads that race to replace it see a consistent Run.
+    private Run lastRun;
+
+    private PersistentList(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in iteration order.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> of(Collection<? extends T> elements) {
+        requireNonNull(elements);
+        if (elements instanceof PersistentList) {
+            return (PersistentList<T>) elements;
+        }
+        Object[] array = elements.toArray();
+        if (array.length == 0) {
+            return empty();
+        }
+        int nodeCount = (array.length + NODE_CAPACITY - 1) / NODE_CAPACITY;
+        return new PersistentList<>(build(array, nodeCount, 0, nodeCount));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size());
+        Run run = lastRun;
+        if (run == null || index < run.start || index >= run.start + run.elements.length) {
+            run = findRun(index);
+            lastRun = run;
+        }
+        return (T) run.elements[index - run.start];
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns a copy of this list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<T> replacing(int index, T element) {
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(replace(root, index, element));
+    }
+
+    /**
+     * Returns a copy of this list with {@code element} inserted at {@code index}, which may be the size of this list.
+     */
+    public PersistentList<T> inserting(int index, T element) {
+        Objects.checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a copy of this list without the element at {@code index}.
+     */
+    public PersistentList<T> removing(int index) {
+        Objects.checkIndex(index, size());
+        Node newRoot = remove(root, index);
+        return newRoot == null ? empty() : new PersistentList<>(newRoot);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            // The nodes whose elements and right subtree are yet to be visited, the next node to visit on top
+            private final Deque<Node> pending = new ArrayDeque<>();
+            private Object[] elements = new Object[0];
+            private int next;
+
+            {
+                pushLeftmostPath(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next < elements.length || !pending.isEmpty();
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (next == elements.length) {
+                    Node node = pending.pop();
+                    pushLeftmostPath(node.right);
+                    elements = node.elements;
+                    next = 0;
+                }
+                return (T) elements[next++];
+            }
+
+            private void pushLeftmostPath(Node node) {
+                for (; node != null; node = node.left) {
+                    pending.push(node);
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns the run of elements that holds the element at {@code index}.
+     */
+    private Run findRun(int index) {
+        Node node = root;
+        int start = 0;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < start + leftSize) {
+                node = node.left;
+            } else if (index < start + leftSize + node.elements.length) {
+                return new Run(start + leftSize, node.elements);
+            } else {
+                start += leftSize + node.elements.length;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns a perfectly balanced tree of the nodes from {@code fromNode} (inclusive) to {@code toNode} (exclusive),
+     * when the elements of {@code array} are shared out evenly between {@code nodeCount} nodes.
+     */
+    private static Node build(Object[] array, int nodeCount, int fromNode, int toNode) {
+        if (fromNode == toNode) {
+            return null;
+        }
+        int middleNode = (fromNode + toNode) >>> 1;
+        int from = (int) ((long) array.length * middleNode / nodeCount);
+        int to = (int) ((long) array.length * (middleNode + 1) / nodeCount);
+        return new Node(build(array, nodeCount, fromNode, middleNode), Arrays.copyOfRange(array, from, to),
+                build(array, nodeCount, middleNode + 1, toNode));
+    }
+
+    private static Node replace(Node node, int index, Object element) {
+        int leftSize = size(node.left);
+        int elementCount = node.elements.length;
+        if (index < leftSize) {
+            return new Node(replace(node.left, index, element), node.elements, node.right);
+        } else if (index >= leftSize + elementCount) {
+            return new Node(node.left, node.elements, replace(node.right, index - leftSize - elementCount, element));
+        }
+        Object[] elements = node.elements.clone();
+        elements[index - leftSize] = element;
+        return new Node(node.left, elements, node.right);
+    }
+
+    private static Node insert(Node node, int index, Object element) {
+        if (node == null) {
+            return new Node(null, new Object[] {element}, null);
+        }
+        int leftSize = size(node.left);
+        int elementCount = node.elements.length;
+        if (index < leftSize) {
+            return balance(insert(node.left, index, element), node.elements, node.right);
+        } else if (index > leftSize + elementCount) {
+            return balance(node.left, node.elements, insert(node.right, index - leftSize - elementCount, element));
+        }
+
+        Object[] elements = new Object[elementCount + 1];
+        int position = index - leftSize;
+        System.arraycopy(node.elements, 0, elements, 0, position);
+        elements[position] = element;
+        System.arraycopy(node.elements, position, elements, position + 1, elementCount - position);
+        if (elements.length <= NODE_CAPACITY) {
+            return new Node(node.left, elements, node.right);
+        }
+
+        // Keep the first half of the elements, and move the second half to a new node right after this one
+        int half = elements.length / 2;
+        return balance(node.left, Arrays.copyOf(elements, half),
+                insertFirst(node.right, Arrays.copyOfRange(elements, half, elements.length)));
+    }
+
+    /**
+     * Returns {@code node} with a new node holding {@code elements} inserted before all of its nodes.
+     */
+    private static Node insertFirst(Node node, Object[] elements) {
+        if (node == null) {
+            return new Node(null, elements, null);
+        }
+        return balance(insertFirst(node.left, elements), node.elements, node.right);
+    }
+
+    private static Node remove(Node node, int index) {
+        int leftSize = size(node.left);
+        int elementCount = node.elements.length;
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.elements, node.right);
+        } else if (index >= leftSize + elementCount) {
+            return balance(node.left, node.elements, remove(node.right, index - leftSize - elementCount));
+        } else if (elementCount > 1) {
+            Object[] elements = new Object[elementCount - 1];
+            int position = index - leftSize;
+            System.arraycopy(node.elements, 0, elements, 0, position);
+            System.arraycopy(node.elements, position + 1, elements, position, elementCount - position - 1);
+            return new Node(node.left, elements, node.right);
+        }
+
+        // The node is left empty, so it is replaced by the first node after it
+        if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Node successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(node.left, successor.elements, removeFirst(node.right));
+    }
+
+    /**
+     * Returns {@code node} without the first of its nodes.
+     */
+    private static Node removeFirst(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(removeFirst(node.left), node.elements, node.right);
+    }
+
+    /**
+     * Returns a tree of {@code left}, {@code elements} and {@code right} in that order, rotated so that the heights of
+     * the two subtrees of every node differ by at most one.
+     * {@code left} and {@code right} must each be balanced, and their heights must differ by at most two, as they do
+     * after a single node is inserted or removed.
+     */
+    private static Node balance(Node left, Object[] elements, Node right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node(left.left, left.elements, new Node(left.right, elements, right));
+            }
+            Node pivot = left.right;
+            return new Node(new Node(left.left, left.elements, pivot.left), pivot.elements,
+                    new Node(pivot.right, elements, right));
+        } else if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node(new Node(left, elements, right.left), right.elements, right.right);
+            }
+            Node pivot = right.left;
+            return new Node(new Node(left, elements, pivot.left), pivot.elements,
+                    new Node(pivot.right, right.elements, right.right));
+        }
+        return new Node(left, elements, right);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * A node of the tree, which is never modified once created so that it can be shared between lists.
+     */
+    private static final class Node {
+        private final Node left;
+        private final Object[] elements;
+        private final Node right;
+        private final int size;
+        private final int height;
+
+        private Node(Node left, Object[] elements, Node right) {
+            this.left = left;
+            this.elements = elements;
+            this.right = right;
+            size = size(left) + elements.length + size(right);
+            height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+
+    /**
+     * The elements of a node, and the position in the list of the first of them.
+     */
+    private static final class Run {
+        private final int start;
+        private final Object[] elements;
+
+        private Run(int start, Object[] elements) {
+            this.start = start;
+            this.elements = elements;
+        }
+    }
+}
@@ -5,7 +5,6 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
 
 /**
  * Helper functions for handling strings.
@@ -27,15 +26,109 @@ public class StringUtil {
         requireNonNull(sentence);
         requireNonNull(word);
 
-        String preppedWord = word.trim();
-        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        // Scans both strings in place, as this runs for every person on each search
+        int wordStart = 0;
+        int wordEnd = word.length();
+        while (wordStart < wordEnd && word.charAt(wordStart) <= ' ') {
+            wordStart++;
+        }
+        while (wordEnd > wordStart && word.charAt(wordEnd - 1) <= ' ') {
+            wordEnd--;
+        }
+        checkArgument(wordStart < wordEnd, "Word parameter cannot be empty");
+        for (int i = wordStart; i < wordEnd; i++) {
+            checkArgument(!isWhitespace(word.charAt(i)), "Word parameter should be a single word");
+        }
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+        int wordLength = wordEnd - wordStart;
+        int position = 0;
+        while (position < sentence.length()) {
+            while (position < sentence.length() && isWhitespace(sentence.charAt(position))) {
+                position++;
+            }
+            int sentenceWordStart = position;
+            while (position < sentence.length() && !isWhitespace(sentence.charAt(position))) {
+                position++;
+            }
+            if (position - sentenceWordStart == wordLength
+                    && sentence.regionMatches(true, sentenceWordStart, word, wordStart, wordLength)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(preppedWord::equalsIgnoreCase);
+    /**
+     * Returns the number of single-character insertions, deletions, substitutions and swaps of adjacent characters
+     * needed to turn {@code first} into {@code second}, or {@code maxDistance + 1} if more than {@code maxDistance}
+     * are needed. As in the optimal string alignment distance, no character is edited more than once.
+     *   <br>examples:<pre>
+     *       editDistance("john", "jonh", 2) == 1 // swapped characters
+     *       editDistance("john", "jon", 2) == 1
+     *       editDistance("john", "jane", 2) == 3 // more than the maximum distance
+     *       </pre>
+     * @param maxDistance cannot be negative
+     */
+    public static int editDistance(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+
+        // The distances from the prefixes of first of length i - 2, i - 1 and i to each prefix of second
+        int[] beforePrevious = new int[second.length() + 1];
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            int rowMinimum = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                int distance = Math.min(Math.min(previous[j], current[j - 1]) + 1,
+                        previous[j - 1] + substitutionCost);
+                if (i > 1 && j > 1 && first.charAt(i - 1) == second.charAt(j - 2)
+                        && first.charAt(i - 2) == second.charAt(j - 1)) {
+                    distance = Math.min(distance, beforePrevious[j - 2] + 1);
+                }
+                current[j] = distance;
+                rowMinimum = Math.min(rowMinimum, distance);
+            }
+            // No later row has a smaller distance than the smallest in this one
+            if (rowMinimum > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] reused = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = reused;
+        }
+        return Math.min(previous[second.length()], maxDistance + 1);
+    }
+
+    /**
+     * Returns true if {@code c} is a whitespace character as matched by {@code \s} in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, as matched by {@code \p{Alnum}} in a regular expression.
+     */
+    public static boolean isAsciiAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isAsciiDigit(c);
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII digit, as matched by {@code \d} in a regular expression.
+     */
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
     }
 
     /**
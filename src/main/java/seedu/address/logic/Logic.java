@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +25,43 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the commands in order as a single change: if any of them fails, the changes made by the others are
+     * undone. The address book is saved once, after all of the commands have been executed.
+     * @param commandTexts The commands as entered by the user. Blank commands are skipped.
+     * @return the result of executing all of the commands.
+     * @throws CommandException If an error occurs during the execution of any of the commands.
+     * @throws ParseException If an error occurs during the parsing of any of the commands.
+     */
+    CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException;
+
+    /**
+     * Executes the command on the command thread of this Logic and returns without waiting for it.
+     * Commands are executed one at a time, in the order they are submitted.
+     * Once the command has been executed, {@link #getFilteredPersonList()} is updated and then either
+     * {@code resultHandler} is given the result, or {@code errorHandler} is given the exception that
+     * {@link #execute(String)} would have thrown. Both happen on the JavaFX application thread.
+     * An {@code Error} thrown by the command is given to {@code errorHandler} as the cause of a
+     * {@code CommandException}, so that one of the handlers is always called.
+     */
+    void executeInBackground(String commandText, Consumer<CommandResult> resultHandler,
+            Consumer<Exception> errorHandler);
+
+    /**
+     * Previews the result of the command being typed, if it is a valid find command, by executing it on the command
+     * thread of this Logic without waiting for it. Once it has been executed, {@link #getFilteredPersonList()} is
+     * updated and then {@code resultHandler} is given the result, on the JavaFX application thread.
+     * The preview is skipped if another preview or command is submitted before it starts, and its result is not given
+     * to {@code resultHandler} if one is submitted before it finishes. Other commands are not previewed.
+     */
+    void previewInBackground(String commandText, Consumer<CommandResult> resultHandler);
+
+    /**
+     * Waits a few seconds for the commands submitted with {@link #executeInBackground} to finish, then stops the
+     * command thread, interrupting any command that is still running.
+     */
+    void stop();
+
     /**
      * Returns the AddressBook.
      *
@@ -30,11 +69,15 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
-    /** Returns an unmodifiable view of the filtered list of persons */
+    /**
+     * Returns an unmodifiable view of the filtered list of persons.
+     * The list is updated once a command has finished executing, on the thread that the command was executed for.
+     */
     ObservableList<Person> getFilteredPersonList();
 
     /**
-     * Returns the user prefs' address book file path.
+     * Returns the path of the file that the address book is saved to, which has the extension of the binary format
+     * in place of the one in the user prefs if that format is used.
      */
     Path getAddressBookFilePath();
 
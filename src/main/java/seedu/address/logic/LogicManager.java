@@ -2,13 +2,29 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -19,41 +35,335 @@ import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ *
+ * Commands executed with {@link #executeInBackground} run on a single command thread, which is then the only thread
+ * that modifies the model. The filtered person list given out by this class is a copy of the model's that is updated
+ * only once a command has finished: on the caller's thread by {@link #execute}, and on the JavaFX application thread
+ * by {@link #executeInBackground}. The UI therefore never observes a command half way through.
+ *
+ * The copy is updated by replacing the range of it that the model's filtered person list has changed in since the
+ * last update, as a single change that the UI is notified of once. A command that changes only a few persons thus
+ * does not copy the whole list, and a batch of commands does not make the UI redraw the list for each of its changes.
+ *
+ * A LogicManager can also be given the persons to show while its model's address book is read on the command thread,
+ * such as a lazily decoded view of the data file, so that the UI need not wait for every person to be read.
+ *
+ * Previews of find commands being typed run on the same thread, so that they never race with a command. A preview
+ * that has been superseded by a later submission before it starts is skipped, which keeps the thread from falling
+ * behind a fast typist. One superseded after it starts still updates the copy, which must match the model's list that
+ * later commands refer to by index, but its result is not shown.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String COMMAND_ERROR_MESSAGE = "Could not execute command: ";
+
+    /** How long {@link #stop()} waits for the command thread to finish the commands submitted to it. */
+    private static final long STOP_TIMEOUT_SECONDS = 5;
+
+    /** The saved version of an address book that has not been saved, which no address book version equals. */
+    private static final long NOT_SAVED = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    // The version of the model's address book that was last saved, or NOT_SAVED if it is not in storage yet.
+    // Guarded by this object's lock.
+    private long savedVersion;
+    private final ExecutorService commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Command executor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // The number of commands and previews submitted to the command thread, by which a preview tells it is superseded
+    private final AtomicLong submissionCount = new AtomicLong();
+
+    // Counted down once the model's address book has been read, before which commands must not run
+    private final CountDownLatch addressBookRead = new CountDownLatch(1);
+
+    // The persons in the filtered person list given out by this class, which start as the initial persons to show
+    private final SwitchableList<Person> shownPersons;
+    private final ObservableList<Person> unmodifiableFilteredPersons;
+    // The size of the copy once the updates taken so far are made to it, and the range that the model's filtered
+    // person list has changed in since: it holds recordedSize persons, of which those before changedFrom and the last
+    // unchangedAfter are unchanged. Guarded by this object's lock.
+    private int filteredPersonsSize;
+    private int changedFrom;
+    private int unchangedAfter;
+    private int recordedSize;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, whose address book is
+     * already in {@code storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, true);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * If {@code isAddressBookSaved} is false, such as when the model holds sample data, the model's address book is
+     * saved after the first command even if that command does not change it.
+     */
+    public LogicManager(Model model, Storage storage, boolean isAddressBookSaved) {
+        this(model, storage, new ArrayList<>(model.getFilteredPersonList()), isAddressBookSaved);
+        addressBookRead.countDown();
+    }
+
+    /**
+     * Constructs a {@code LogicManager} whose model's address book is still to be read from {@code storage}, which is
+     * done on the command thread so that the UI can be shown first. Until then, the filtered person list given out by
+     * this class holds {@code initialPersons}, which are to be the persons in {@code storage}, such as a lazily decoded
+     * view of them, and commands wait for the address book to be read. If it cannot be read, the model keeps its empty
+     * address book, and the data file is left as it is until the address book is changed.
+     */
+    public LogicManager(Model model, Storage storage, List<Person> initialPersons) {
+        this(model, storage, initialPersons, true);
+        commandExecutor.execute(this::readAddressBook);
+    }
+
+    private LogicManager(Model model, Storage storage, List<Person> shownPersons, boolean isAddressBookSaved) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedVersion = isAddressBookSaved ? model.getAddressBook().getVersion() : NOT_SAVED;
+
+        this.shownPersons = new SwitchableList<>(shownPersons);
+        unmodifiableFilteredPersons = FXCollections.unmodifiableObservableList(this.shownPersons);
+        filteredPersonsSize = shownPersons.size();
+        resetFilteredPersonsChanges(model.getFilteredPersonList().size());
+        model.getFilteredPersonList().addListener((ListChangeListener<Person>) this::recordFilteredPersonsChange);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        try {
+            return executeOnModel(commandText);
+        } finally {
+            takeFilteredPersonsUpdate().run();
+        }
+    }
+
+    @Override
+    public CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException {
+        logger.info("----------------[BATCH OF " + commandTexts.size() + " COMMANDS]");
+        try {
+            return executeOnModel(addressBookParser.parseBatch(commandTexts));
+        } finally {
+            takeFilteredPersonsUpdate().run();
+        }
+    }
+
+    @Override
+    public void executeInBackground(String commandText, Consumer<CommandResult> resultHandler,
+            Consumer<Exception> errorHandler) {
+        submissionCount.incrementAndGet();
+        commandExecutor.execute(() -> {
+            CommandResult commandResult = null;
+            Exception error = null;
+            try {
+                commandResult = executeOnModel(commandText);
+            } catch (CommandException | ParseException | RuntimeException e) {
+                error = e;
+            } catch (Error e) {
+                // Reported like any other failure, as otherwise the UI would wait for the command forever
+                logger.severe("Command failed: " + StringUtil.getDetails(e));
+                error = new CommandException(COMMAND_ERROR_MESSAGE + e, e);
+            }
+            Runnable filteredPersonsUpdate = takeFilteredPersonsUpdate();
+
+            CommandResult result = commandResult;
+            Exception exception = error;
+            Platform.runLater(() -> {
+                filteredPersonsUpdate.run();
+                if (exception == null) {
+                    resultHandler.accept(result);
+                } else {
+                    errorHandler.accept(exception);
+                }
+            });
+        });
+    }
+
+    @Override
+    public void previewInBackground(String commandText, Consumer<CommandResult> resultHandler) {
+        long submission = submissionCount.incrementAndGet();
+        commandExecutor.execute(() -> {
+            if (submissionCount.get() != submission) {
+                return;
+            }
+
+            CommandResult commandResult;
+            try {
+                Command command = addressBookParser.parseCommand(commandText);
+                if (!(command instanceof FindCommand)) {
+                    return;
+                }
+                commandResult = executeOnModel(command);
+            } catch (CommandException | ParseException e) {
+                // The command is not yet complete, and its errors are reported only once it is entered
+                return;
+            } catch (RuntimeException | Error e) {
+                // Not reported to the UI, as the command has not been entered, but logged as it is a bug
+                logger.severe("Preview failed: " + StringUtil.getDetails(e));
+                return;
+            }
+            Runnable filteredPersonsUpdate = takeFilteredPersonsUpdate();
+
+            Platform.runLater(() -> {
+                filteredPersonsUpdate.run();
+                if (submissionCount.get() == submission) {
+                    resultHandler.accept(commandResult);
+                }
+            });
+        });
+    }
+
+    @Override
+    public void stop() {
+        commandExecutor.shutdown();
+        try {
+            if (!commandExecutor.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Commands still running after " + STOP_TIMEOUT_SECONDS + " seconds, interrupting them");
+                commandExecutor.shutdownNow();
+            }
+        } catch (InterruptedException ie) {
+            commandExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Reads the address book from storage into the model, and then shows the persons of the model's filtered person
+     * list in place of the initial persons.
+     */
+    private void readAddressBook() {
+        try {
+            Optional<ReadOnlyAddressBook> addressBook = Optional.empty();
+            try {
+                addressBook = storage.readAddressBook();
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Data file could not be read in full. Will be starting with an empty AddressBook: " + e);
+            }
+
+            synchronized (this) {
+                addressBook.ifPresent(model::setInitialAddressBook);
+                savedVersion = model.getAddressBook().getVersion();
+                List<Person> persons = new ArrayList<>(model.getFilteredPersonList());
+                resetFilteredPersonsChanges(persons.size());
+                if (addressBook.isPresent() && persons.size() == shownPersons.size()) {
+                    // Read from the same data file as the initial persons, so it has them in the same order, and
+                    // they are switched for its persons without the UI being notified
+                    shownPersons.switchTo(persons);
+                    return;
+                }
+
+                // Otherwise the initial persons are replaced in the UI as a whole, through a copy of them, as they may
+                // be a view that is not modifiable
+                shownPersons.switchTo(new ArrayList<>(shownPersons));
+                filteredPersonsSize = shownPersons.size();
+                changedFrom = 0;
+                unchangedAfter = 0;
+            }
+            Platform.runLater(takeFilteredPersonsUpdate());
+        } finally {
+            addressBookRead.countDown();
+        }
+    }
+
+    /**
+     * Records that the model's filtered person list, which now holds {@code size} persons, has not changed since the
+     * filtered person list given out by this class was last updated.
+     */
+    private synchronized void resetFilteredPersonsChanges(int size) {
+        changedFrom = size;
+        unchangedAfter = size;
+        recordedSize = size;
+    }
+
+    /**
+     * Widens the range that the model's filtered person list has changed in to cover the changes in {@code change}.
+     */
+    private synchronized void recordFilteredPersonsChange(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                continue;
+            }
+            int changedTo = change.wasPermutated() ? change.getTo() : change.getFrom() + change.getRemovedSize();
+            changedFrom = Math.min(changedFrom, change.getFrom());
+            unchangedAfter = Math.min(unchangedAfter, recordedSize - changedTo);
+            recordedSize += change.getAddedSize() - change.getRemovedSize();
+        }
+    }
+
+    /**
+     * Returns an update that brings the filtered person list given out by this class up to date with the model's,
+     * by replacing the range that the model's has changed in since this method was last called.
+     */
+    private synchronized Runnable takeFilteredPersonsUpdate() {
+        int oldSize = filteredPersonsSize;
+        int newSize = model.getFilteredPersonList().size();
+        assert newSize == recordedSize;
+        int from = Math.min(changedFrom, Math.min(oldSize, newSize));
+        int unchanged = Math.min(unchangedAfter, Math.min(oldSize, newSize) - from);
+        filteredPersonsSize = newSize;
+        resetFilteredPersonsChanges(newSize);
+        if (from == oldSize - unchanged && from == newSize - unchanged) {
+            return () -> {};
+        }
+
+        List<Person> added = new ArrayList<>(model.getFilteredPersonList().subList(from, newSize - unchanged));
+        return () -> shownPersons.replace(from, oldSize - unchanged, added);
+    }
+
+    private CommandResult executeOnModel(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        return executeOnModel(addressBookParser.parseCommand(commandText));
+    }
 
+    /**
+     * Executes {@code command} on the model, commits the changes it made, and saves the address book unless it is
+     * unchanged since it was last saved. A command that changes nothing therefore only saves an address book that is
+     * not in storage yet, or one whose last save failed, including a save that failed to be written in the background.
+     */
+    private synchronized CommandResult executeOnModel(Command command) throws CommandException {
+        awaitAddressBookRead();
         CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
+        model.commitAddressBook();
+
+        if (storage.hasFailedWrite()) {
+            logger.warning("Address book failed to be saved in the background, saving it again");
+            savedVersion = NOT_SAVED;
+        }
+        long version = model.getAddressBook().getVersion();
+        if (version == savedVersion) {
+            return commandResult;
+        }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
+        savedVersion = version;
 
         return commandResult;
     }
 
+    /**
+     * Waits until the model's address book has been read.
+     */
+    private void awaitAddressBookRead() throws CommandException {
+        try {
+            addressBookRead.await();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new CommandException(COMMAND_ERROR_MESSAGE + ie, ie);
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -61,12 +371,12 @@ public class LogicManager implements Logic {
 
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return model.getFilteredPersonList();
+        return unmodifiableFilteredPersons;
     }
 
     @Override
     public Path getAddressBookFilePath() {
-        return model.getAddressBookFilePath();
+        return storage.getAddressBookFilePath();
     }
 
     @Override
@@ -78,4 +388,51 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    /**
+     * A list that delegates to another list, which can be switched for a list with the same elements, and whose
+     * listeners are notified of each replacement of a range of it as a single change.
+     */
+    private static class SwitchableList<E> extends ObservableListBase<E> {
+        private volatile List<E> elements;
+
+        SwitchableList(List<E> elements) {
+            this.elements = elements;
+        }
+
+        /**
+         * Switches the list delegated to for {@code sameElements}, which has the same elements in the same order.
+         */
+        void switchTo(List<E> sameElements) {
+            assert sameElements.size() == elements.size();
+            elements = sameElements;
+        }
+
+        /**
+         * Replaces the elements from index {@code from}, inclusive, to {@code to}, exclusive, with {@code added}.
+         */
+        void replace(int from, int to, List<E> added) {
+            beginChange();
+            List<E> removed = elements.subList(from, to);
+            if (!removed.isEmpty()) {
+                nextRemove(from, new ArrayList<>(removed));
+                removed.clear();
+            }
+            if (!added.isEmpty()) {
+                elements.addAll(from, added);
+                nextAdd(from, from + added.size());
+            }
+            endChange();
+        }
+
+        @Override
+        public E get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+    }
 }
@@ -46,6 +46,13 @@ public class AddCommand extends Command {
         toAdd = person;
     }
 
+    /**
+     * Returns the person to be added.
+     */
+    public Person getPersonToAdd() {
+        return toAdd;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
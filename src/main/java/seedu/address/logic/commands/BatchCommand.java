@@ -0,0 +1,104 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Executes a sequence of commands as a single change to the address book.
+ * If any of the commands fails, the changes made by the others are discarded, restoring the address book to its last
+ * committed state. As the app commits every command once it has been executed, that is the address book as it was
+ * before the first command.
+ *
+ * Consecutive add commands are executed together as one bulk addition, so that listeners of the person list are
+ * notified once for all of them rather than once per person.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Executes the commands in a text file, one per line, "
+            + "as a single change. If any command fails, none of the changes are kept.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/new_contacts.txt";
+
+    public static final String MESSAGE_SUCCESS = "Executed %1$d commands";
+    public static final String MESSAGE_COMMAND_FAILED = "Command %1$d failed, so no changes were made: %2$s";
+
+    private final List<Command> commands;
+
+    /**
+     * Creates a BatchCommand that executes {@code commands} in order.
+     */
+    public BatchCommand(List<Command> commands) {
+        requireNonNull(commands);
+        this.commands = List.copyOf(commands);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        int i = 0;
+        while (i < commands.size()) {
+            int addRunEnd = findAddRunEnd(i);
+            if (addRunEnd - i > 1 && addPersons(model, i, addRunEnd)) {
+                i = addRunEnd;
+                continue;
+            }
+
+            // The commands are executed one at a time, so that the one that fails is known
+            for (int end = Math.max(addRunEnd, i + 1); i < end; i++) {
+                try {
+                    commands.get(i).execute(model);
+                } catch (CommandException | RuntimeException e) {
+                    model.rollbackAddressBook();
+                    throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, i + 1, e.getMessage()), e);
+                }
+            }
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commands.size()));
+    }
+
+    /**
+     * Returns the position after the run of consecutive add commands that starts at position {@code from}.
+     */
+    private int findAddRunEnd(int from) {
+        int end = from;
+        while (end < commands.size() && commands.get(end) instanceof AddCommand) {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * Adds the persons of the add commands from position {@code from} up to {@code to} as one change.
+     * Returns false without changing the model if any of them is a duplicate.
+     */
+    private boolean addPersons(Model model, int from, int to) {
+        List<Person> persons = new ArrayList<>(to - from);
+        for (Command command : commands.subList(from, to)) {
+            persons.add(((AddCommand) command).getPersonToAdd());
+        }
+        try {
+            model.addPersons(persons);
+            return true;
+        } catch (DuplicatePersonException dpe) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BatchCommand // instanceof handles nulls
+                && commands.equals(((BatchCommand) other).commands));
+    }
+}
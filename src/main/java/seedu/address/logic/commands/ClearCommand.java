@@ -7,6 +7,7 @@ import seedu.address.model.Model;
 
 /**
  * Clears the address book.
+ * The person list is replaced as a whole, which is a single change and a single edit however many persons it held.
  */
 public class ClearCommand extends Command {
 
@@ -1,42 +1,138 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonHasTagsPredicate;
+import seedu.address.model.person.PhoneStartsWithPredicate;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all persons in address book whose name contains any of the argument keywords, whose phone number
+ * starts with any of the argument prefixes, and who have the argument tags. Keyword matching is case insensitive.
+ * Fuzzy keywords also match names a few typos away, and the names they match are listed with the fewest typos first.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    /** Marks a keyword that also matches names a few typos away from it. */
+    public static final String FUZZY_KEYWORD_MARKER = "~";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "the specified keywords (case-insensitive), or a name within a few typos of the keywords marked with "
+            + FUZZY_KEYWORD_MARKER + ", whose phone numbers start with any of the prefixes given "
+            + "with the " + PREFIX_PHONE + " prefix, and who have at least one of the tags given with each "
+            + PREFIX_TAG + " prefix, and displays them as a list with index numbers.\n"
+            + "Parameters: [KEYWORD [MORE_KEYWORDS]...] [" + PREFIX_PHONE + "PHONE_PREFIX [MORE_PHONE_PREFIXES]...] "
+            + "[" + PREFIX_TAG + "TAG [MORE_TAGS]...]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " " + FUZZY_KEYWORD_MARKER + "alcie bob\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_PHONE + "9123\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "friends colleagues " + PREFIX_TAG + "owesMoney";
+
+    public static final String MESSAGE_FUZZY_MATCHES = "Names matched by the keywords marked with "
+            + FUZZY_KEYWORD_MARKER + ", closest first: %1$s";
+
+    /** The most names matched by the fuzzy keywords that the result message lists. */
+    static final int MAX_FUZZY_MATCHES_SHOWN = 10;
+
+    private final NameContainsKeywordsPredicate namePredicate;
+    private final PhoneStartsWithPredicate phonePredicate;
+    private final PersonHasTagsPredicate tagsPredicate;
 
-    private final NameContainsKeywordsPredicate predicate;
+    /**
+     * Creates a FindCommand to find the persons whose name matches {@code namePredicate}.
+     */
+    public FindCommand(NameContainsKeywordsPredicate namePredicate) {
+        this(namePredicate, null);
+    }
+
+    /**
+     * Creates a FindCommand to find the persons who match both of the given predicates.
+     * Either predicate may be null, in which case it matches every person, but not both.
+     */
+    public FindCommand(NameContainsKeywordsPredicate namePredicate, PersonHasTagsPredicate tagsPredicate) {
+        this(namePredicate, null, tagsPredicate);
+    }
 
-    public FindCommand(NameContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
+    /**
+     * Creates a FindCommand to find the persons who match all of the given predicates.
+     * Any of the predicates may be null, in which case it matches every person, but not all of them.
+     */
+    public FindCommand(NameContainsKeywordsPredicate namePredicate, PhoneStartsWithPredicate phonePredicate,
+            PersonHasTagsPredicate tagsPredicate) {
+        if (namePredicate == null && phonePredicate == null) {
+            requireNonNull(tagsPredicate);
+        }
+        this.namePredicate = namePredicate;
+        this.phonePredicate = phonePredicate;
+        this.tagsPredicate = tagsPredicate;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        Predicate<Person> predicate = person -> true;
+        // The persons who may match, looked up in the indexes of the model, or null if any person may match
+        Collection<Person> candidates = null;
+        List<String> fuzzyMatches = Collections.emptyList();
+        if (namePredicate != null) {
+            fuzzyMatches = namePredicate.findFuzzyMatches(model::getNameWordsWithin);
+            predicate = namePredicate.lookUpWith(model::getPersonsWithNameWord, fuzzyMatches);
+            candidates = namePredicate.lookUpMatches(model::getPersonsWithNameWord, fuzzyMatches);
+        }
+        if (phonePredicate != null) {
+            predicate = predicate.and(phonePredicate);
+            Set<Person> personsWithPhonePrefix = phonePredicate.lookUpMatches(model::getPersonsWithPhonePrefix);
+            if (candidates == null || personsWithPhonePrefix.size() < candidates.size()) {
+                candidates = personsWithPhonePrefix;
+            }
+        }
+        if (tagsPredicate != null) {
+            predicate = predicate.and(tagsPredicate.lookUpWith(model::getPersonsWithTag));
+            Set<Person> personsWithTags = tagsPredicate.lookUpMatches(model::getPersonsWithTag);
+            if (candidates == null || personsWithTags.size() < candidates.size()) {
+                candidates = personsWithTags;
+            }
+        }
+
+        if (candidates == null) {
+            model.updateFilteredPersonList(predicate);
+        } else {
+            // Only the persons found by name, phone number or tags can match, so only they need to be tested
+            model.updateFilteredPersonList(predicate, candidates);
+        }
+
+        String feedback = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size());
+        if (!fuzzyMatches.isEmpty()) {
+            String shownMatches = String.join(", ",
+                    fuzzyMatches.subList(0, Math.min(fuzzyMatches.size(), MAX_FUZZY_MATCHES_SHOWN)));
+            if (fuzzyMatches.size() > MAX_FUZZY_MATCHES_SHOWN) {
+                shownMatches += ", ...";
+            }
+            feedback += "\n" + String.format(MESSAGE_FUZZY_MATCHES, shownMatches);
+        }
+        return new CommandResult(feedback);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && Objects.equals(namePredicate, ((FindCommand) other).namePredicate) // state check
+                && Objects.equals(phonePredicate, ((FindCommand) other).phonePredicate)
+                && Objects.equals(tagsPredicate, ((FindCommand) other).tagsPredicate));
     }
 }
@@ -3,10 +3,13 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
@@ -15,6 +18,8 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -22,6 +27,10 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class AddressBookParser {
 
+    public static final String MESSAGE_INVALID_BATCH_COMMAND = "Command %1$d: %2$s";
+    public static final String MESSAGE_NESTED_BATCH = "Files cannot be imported by an imported command";
+    public static final String MESSAGE_HISTORY_IN_BATCH = "Commands cannot be undone or redone by an imported command";
+
     /**
      * Used for initial separation of command word and args.
      */
@@ -68,9 +77,61 @@ public class AddressBookParser {
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand();
 
+        case BatchCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
     }
 
+    /**
+     * Parses a sequence of user inputs into a command that executes all of them as a single change.
+     * Blank inputs are skipped, and the remaining inputs are numbered from 1 in error messages.
+     *
+     * @throws ParseException if any of the inputs does not conform the expected format
+     */
+    public BatchCommand parseBatch(List<String> userInputs) throws ParseException {
+        List<Command> commands = new ArrayList<>();
+        for (String userInput : userInputs) {
+            if (userInput.isBlank()) {
+                continue;
+            }
+
+            int commandNumber = commands.size() + 1;
+            // Rejected before parsing, as parsing an import reads its file, which may import itself in turn
+            if (isImportCommand(userInput)) {
+                throw new ParseException(String.format(MESSAGE_INVALID_BATCH_COMMAND, commandNumber,
+                        MESSAGE_NESTED_BATCH));
+            }
+            Command command;
+            try {
+                command = parseCommand(userInput);
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(MESSAGE_INVALID_BATCH_COMMAND, commandNumber, pe.getMessage()),
+                        pe);
+            }
+            if (command instanceof UndoCommand || command instanceof RedoCommand) {
+                throw new ParseException(String.format(MESSAGE_INVALID_BATCH_COMMAND, commandNumber,
+                        MESSAGE_HISTORY_IN_BATCH));
+            }
+            commands.add(command);
+        }
+        return new BatchCommand(commands);
+    }
+
+    /**
+     * Returns true if {@code userInput} is an import command, without parsing its arguments.
+     */
+    private static boolean isImportCommand(String userInput) {
+        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+        return matcher.matches() && matcher.group("commandWord").equals(BatchCommand.COMMAND_WORD);
+    }
+
 }
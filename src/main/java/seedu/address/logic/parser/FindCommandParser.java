@@ -1,12 +1,20 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonHasTagsPredicate;
+import seedu.address.model.person.PhoneStartsWithPredicate;
+import seedu.address.model.tag.Tag;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -19,15 +27,53 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty()) {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PHONE, PREFIX_TAG);
+        String preamble = argMultimap.getPreamble().trim();
+        List<String> phoneArgs = argMultimap.getAllValues(PREFIX_PHONE);
+        List<String> tagArgs = argMultimap.getAllValues(PREFIX_TAG);
+        if (preamble.isEmpty() && phoneArgs.isEmpty() && tagArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        NameContainsKeywordsPredicate namePredicate = null;
+        if (!preamble.isEmpty()) {
+            List<String> nameKeywords = new ArrayList<>();
+            List<String> fuzzyNameKeywords = new ArrayList<>();
+            for (String keyword : preamble.split("\\s+")) {
+                if (!keyword.startsWith(FindCommand.FUZZY_KEYWORD_MARKER)) {
+                    nameKeywords.add(keyword);
+                } else if (keyword.length() > FindCommand.FUZZY_KEYWORD_MARKER.length()) {
+                    fuzzyNameKeywords.add(keyword.substring(FindCommand.FUZZY_KEYWORD_MARKER.length()));
+                } else {
+                    throw new ParseException(
+                            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+                }
+            }
+            namePredicate = new NameContainsKeywordsPredicate(nameKeywords, fuzzyNameKeywords);
+        }
+
+        PhoneStartsWithPredicate phonePredicate = null;
+        if (!phoneArgs.isEmpty()) {
+            List<String> phonePrefixes = new ArrayList<>();
+            for (String phoneArg : phoneArgs) {
+                for (String phonePrefix : phoneArg.trim().split("\\s+")) {
+                    phonePrefixes.add(ParserUtil.parsePhonePrefix(phonePrefix));
+                }
+            }
+            phonePredicate = new PhoneStartsWithPredicate(phonePrefixes);
+        }
+
+        PersonHasTagsPredicate tagsPredicate = null;
+        if (!tagArgs.isEmpty()) {
+            List<Set<Tag>> tagGroups = new ArrayList<>();
+            for (String tagArg : tagArgs) {
+                tagGroups.add(ParserUtil.parseTags(Arrays.asList(tagArg.trim().split("\\s+"))));
+            }
+            tagsPredicate = new PersonHasTagsPredicate(tagGroups);
+        }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        return new FindCommand(namePredicate, phonePredicate, tagsPredicate);
     }
 
 }
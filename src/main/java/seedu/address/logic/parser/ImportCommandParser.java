@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BatchCommand object from the commands in the given file.
+ */
+public class ImportCommandParser implements Parser<BatchCommand> {
+
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read commands from %1$s: %2$s";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BatchCommand
+     * and returns a BatchCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format, the file cannot be read,
+     *     or any of the commands in the file does not conform to its expected format
+     */
+    public BatchCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+        }
+
+        List<String> commandTexts;
+        try {
+            Path filePath = Paths.get(trimmedArgs);
+            commandTexts = Files.readAllLines(filePath);
+        } catch (IOException | InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_CANNOT_READ_FILE, trimmedArgs, e), e);
+        }
+
+        return new AddressBookParser().parseBatch(commandTexts);
+    }
+
+}
@@ -47,7 +47,7 @@ public class ParserUtil {
         if (!Name.isValidName(trimmedName)) {
             throw new ParseException(Name.MESSAGE_CONSTRAINTS);
         }
-        return new Name(trimmedName);
+        return Name.ofValidated(trimmedName);
     }
 
     /**
@@ -62,7 +62,22 @@ public class ParserUtil {
         if (!Phone.isValidPhone(trimmedPhone)) {
             throw new ParseException(Phone.MESSAGE_CONSTRAINTS);
         }
-        return new Phone(trimmedPhone);
+        return Phone.ofValidated(trimmedPhone);
+    }
+
+    /**
+     * Parses a {@code String prefix} of a phone number.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code prefix} is invalid.
+     */
+    public static String parsePhonePrefix(String prefix) throws ParseException {
+        requireNonNull(prefix);
+        String trimmedPrefix = prefix.trim();
+        if (!Phone.isValidPhonePrefix(trimmedPrefix)) {
+            throw new ParseException(Phone.MESSAGE_PREFIX_CONSTRAINTS);
+        }
+        return trimmedPrefix;
     }
 
     /**
@@ -77,7 +92,7 @@ public class ParserUtil {
         if (!Address.isValidAddress(trimmedAddress)) {
             throw new ParseException(Address.MESSAGE_CONSTRAINTS);
         }
-        return new Address(trimmedAddress);
+        return Address.ofValidated(trimmedAddress);
     }
 
     /**
@@ -92,12 +107,14 @@ public class ParserUtil {
         if (!Email.isValidEmail(trimmedEmail)) {
             throw new ParseException(Email.MESSAGE_CONSTRAINTS);
         }
-        return new Email(trimmedEmail);
+        return Email.ofValidated(trimmedEmail);
     }
 
     /**
      * Parses a {@code String tag} into a {@code Tag}.
      * Leading and trailing whitespaces will be trimmed.
+     * The tag is not shared, as tags being searched for need not be kept; a person's tags are shared once they are
+     * stored in its {@code TagSet}.
      *
      * @throws ParseException if the given {@code tag} is invalid.
      */
@@ -2,11 +2,20 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListChange;
+import seedu.address.model.person.PersonListChange.Edit;
+import seedu.address.model.person.PersonListSnapshot;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the address-book level
@@ -15,6 +24,7 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -45,6 +55,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        version++;
     }
 
     /**
@@ -72,6 +83,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        version++;
     }
 
     /**
@@ -83,6 +95,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        version++;
     }
 
     /**
@@ -91,6 +104,104 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        version++;
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the address book, notifying observers of the person list once.
+     * None of the persons may already exist in the address book, and {@code toAdd} must not contain duplicates.
+     */
+    public void addPersons(Collection<Person> toAdd) {
+        persons.addAll(toAdd);
+        version++;
+    }
+
+    /**
+     * Replaces each key of {@code editedPersons} with the person it maps to, notifying observers of the person list
+     * once. Every key must exist in the address book.
+     * The persons in the address book must remain unique in terms of identity after all of the replacements.
+     */
+    public void setPersons(Map<Person, Person> editedPersons) {
+        persons.setPersons(editedPersons);
+        version++;
+    }
+
+    /**
+     * Removes all of {@code keys} from this {@code AddressBook}, notifying observers of the person list once.
+     * Every key must exist in the address book.
+     */
+    public void removePersons(Collection<Person> keys) {
+        persons.removeAll(keys);
+        version++;
+    }
+
+    /**
+     * Returns the persons in the address book whose name contains {@code word} as a whole word, ignoring case.
+     */
+    public Set<Person> getPersonsWithNameWord(String word) {
+        return persons.getPersonsWithNameWord(word);
+    }
+
+    /**
+     * Returns the lower-cased words of the names in the address book that are at most {@code maxDistance} edits away
+     * from {@code word} ignoring case, each mapped to its distance from {@code word}.
+     */
+    public Map<String, Integer> getNameWordsWithin(String word, int maxDistance) {
+        return persons.getNameWordsWithin(word, maxDistance);
+    }
+
+    /**
+     * Returns the persons in the address book with the given tag.
+     */
+    public Set<Person> getPersonsWithTag(Tag tag) {
+        return persons.getPersonsWithTag(tag);
+    }
+
+    /**
+     * Returns the persons in the address book whose phone number starts with {@code prefix}.
+     */
+    public Set<Person> getPersonsWithPhonePrefix(String prefix) {
+        return persons.getPersonsWithPhonePrefix(prefix);
+    }
+
+    /**
+     * Returns the position in the person list of the person equal to {@code person}, or -1 if there is none.
+     */
+    public int indexOfPerson(Person person) {
+        return persons.indexOf(person);
+    }
+
+    //// change history operations
+
+    /**
+     * Starts recording the changes made to the persons in this address book, to be taken with {@link #takeChange()}.
+     */
+    void recordChanges() {
+        persons.recordChanges();
+    }
+
+    /**
+     * Returns the change made to the persons since their changes started being recorded or since this method was
+     * last called.
+     */
+    PersonListChange takeChange() {
+        return persons.takeChange();
+    }
+
+    /**
+     * Restores the persons to what they were before {@code change}, which must be the last change made to them.
+     */
+    void undoChange(PersonListChange change) {
+        persons.undo(change);
+        version++;
+    }
+
+    /**
+     * Restores the persons to what they were after {@code change}, which must have been undone last.
+     */
+    void redoChange(PersonListChange change) {
+        persons.redo(change);
+        version++;
     }
 
     //// util methods
@@ -106,6 +217,37 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns a snapshot of this address book in constant time, as the snapshot shares the structure of the person
+     * list rather than copying it.
+     */
+    @Override
+    public ReadOnlyAddressBook getSnapshot() {
+        return new Snapshot(persons.getSnapshot(), version);
+    }
+
+    /**
+     * Returns the edits since {@code earlier} in time proportional to their number, if {@code earlier} is a snapshot
+     * of this address book.
+     */
+    @Override
+    public Optional<List<Edit>> getEditsSince(ReadOnlyAddressBook earlier) {
+        return getEditsBetween(earlier, persons.getSnapshot());
+    }
+
+    private static Optional<List<Edit>> getEditsBetween(ReadOnlyAddressBook earlier, PersonListSnapshot later) {
+        requireNonNull(earlier);
+        if (!(earlier instanceof Snapshot)) {
+            return Optional.empty();
+        }
+        return later.getEditsSince(((Snapshot) earlier).personListSnapshot);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -117,4 +259,45 @@ public class AddressBook implements ReadOnlyAddressBook {
     public int hashCode() {
         return persons.hashCode();
     }
+
+    /**
+     * The persons of an address book at one version, which never change.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final PersonListSnapshot personListSnapshot;
+        private final ObservableList<Person> persons;
+        private final long version;
+
+        Snapshot(PersonListSnapshot personListSnapshot, long version) {
+            this.personListSnapshot = personListSnapshot;
+            this.persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableList(personListSnapshot.getPersons()));
+            this.version = version;
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public ReadOnlyAddressBook getSnapshot() {
+            return this;
+        }
+
+        @Override
+        public Optional<List<Edit>> getEditsSince(ReadOnlyAddressBook earlier) {
+            return getEditsBetween(earlier, personListSnapshot);
+        }
+
+        @Override
+        public String toString() {
+            return persons.size() + " persons";
+        }
+    }
 }
@@ -0,0 +1,514 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * An unmodifiable view of the elements of an observable list that match a predicate, kept up to date as the list
+ * changes.
+ *
+ * Whether each element of the source list matches is recorded as a bit, in runs of up to 64 consecutive elements held
+ * by the nodes of a balanced binary tree. Each node also counts the elements and the matching elements in its subtree,
+ * so that a position in the source list and a position in this view can be converted into each other in O(log n)
+ * time. A change to the source list therefore tests only the elements it adds or replaces, and updates this view in
+ * O(log n) time for each element it affects, however many elements the source list has. Only setting a new predicate,
+ * or replacing the source list as a whole, tests every element, unless the elements that can match the new predicate
+ * are known in advance.
+ *
+ * @param <E> the type of the elements
+ */
+final class IncrementalFilteredList<E> extends TransformationList<E, E> {
+
+    /** The most elements a node holds. A node that would hold more is split in two. */
+    private static final int NODE_CAPACITY = Long.SIZE;
+
+    private Predicate<? super E> predicate;
+    private Node root;
+
+    // The node that the last view position was found in, and the positions of its first element in the source list and
+    // of its first matching element in this view, so that reading this view in order rarely descends the tree. It is
+    // null if the tree has changed since.
+    private Node lastNode;
+    private int lastNodeSourceStart;
+    private int lastNodeViewStart;
+
+    /**
+     * Creates a view of the elements of {@code source} that match {@code predicate}.
+     */
+    IncrementalFilteredList(ObservableList<? extends E> source, Predicate<? super E> predicate) {
+        super(source);
+        this.predicate = requireNonNull(predicate);
+        root = build(source, source.size());
+    }
+
+    public Predicate<? super E> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Changes the predicate of this view, testing every element of the source list against it.
+     */
+    public void setPredicate(Predicate<? super E> predicate) {
+        this.predicate = requireNonNull(predicate);
+        beginChange();
+        try {
+            refilter(getSource(), getSource());
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Changes the predicate of this view, testing against it only the elements at positions {@code candidateIndexes}
+     * of the source list, as no other element matches it.
+     * This takes O(n / 64 + k log n) time, where k is the number of candidates, rather than the time to test every
+     * element.
+     */
+    public void setPredicate(Predicate<? super E> predicate, int[] candidateIndexes) {
+        this.predicate = requireNonNull(predicate);
+        beginChange();
+        try {
+            List<E> removed = getMatches(getSource());
+            root = build(null, getSource().size());
+            for (int index : candidateIndexes) {
+                if (predicate.test(getSource().get(index))) {
+                    root = setMatches(root, index, true);
+                }
+            }
+            replaceAll(removed);
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return matchCount(root);
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        Objects.checkIndex(index, size());
+        if (lastNode != null && index >= lastNodeViewStart
+                && index < lastNodeViewStart + Long.bitCount(lastNode.matches)) {
+            return lastNodeSourceStart + selectBit(lastNode.matches, index - lastNodeViewStart);
+        }
+
+        Node node = root;
+        int sourceStart = 0;
+        int viewStart = 0;
+        while (true) {
+            int leftMatchCount = matchCount(node.left);
+            int nodeMatchCount = Long.bitCount(node.matches);
+            if (index < viewStart + leftMatchCount) {
+                node = node.left;
+            } else if (index < viewStart + leftMatchCount + nodeMatchCount) {
+                lastNode = node;
+                lastNodeSourceStart = sourceStart + size(node.left);
+                lastNodeViewStart = viewStart + leftMatchCount;
+                return lastNodeSourceStart + selectBit(node.matches, index - lastNodeViewStart);
+            } else {
+                sourceStart += size(node.left) + node.count;
+                viewStart += leftMatchCount + nodeMatchCount;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        Objects.checkIndex(index, size(root));
+        return matches(index) ? countMatchesBefore(index) : -1;
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> change) {
+        lastNode = null;
+        beginChange();
+        try {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    permute(change);
+                } else if (change.wasUpdated()) {
+                    retest(change.getFrom(), change.getTo());
+                } else if (change.getFrom() == 0 && change.getRemovedSize() == size(root)) {
+                    refilter(change.getRemoved(), change.getAddedSubList());
+                } else {
+                    removeAndAdd(change.getFrom(), change.getRemoved(), change.getAddedSubList());
+                }
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Removes the elements {@code removed} from position {@code from} of the source list, and inserts the elements
+     * {@code added} there instead, testing each of them.
+     */
+    private void removeAndAdd(int from, List<? extends E> removed, List<? extends E> added) {
+        for (E element : removed) {
+            if (matches(from)) {
+                nextRemove(countMatchesBefore(from), element);
+            }
+            root = remove(root, from);
+        }
+        for (int i = 0; i < added.size(); i++) {
+            boolean matches = predicate.test(added.get(i));
+            root = insert(root, from + i, matches);
+            if (matches) {
+                int index = countMatchesBefore(from + i);
+                nextAdd(index, index + 1);
+            }
+        }
+    }
+
+    /**
+     * Tests again the elements from position {@code from} (inclusive) to {@code to} (exclusive) of the source list,
+     * which were updated in place.
+     */
+    private void retest(int from, int to) {
+        for (int i = from; i < to; i++) {
+            boolean matched = matches(i);
+            boolean matches = predicate.test(getSource().get(i));
+            root = setMatches(root, i, matches);
+            int index = countMatchesBefore(i);
+            if (matched && matches) {
+                nextUpdate(index);
+            } else if (matched) {
+                nextRemove(index, getSource().get(i));
+            } else if (matches) {
+                nextAdd(index, index + 1);
+            }
+        }
+    }
+
+    /**
+     * Reorders this view after the source list was reordered by {@code change}.
+     */
+    private void permute(Change<? extends E> change) {
+        List<E> elementsBefore = new ArrayList<>(getSource());
+        for (int i = change.getFrom(); i < change.getTo(); i++) {
+            elementsBefore.set(i, getSource().get(change.getPermutation(i)));
+        }
+        refilter(elementsBefore, getSource());
+    }
+
+    /**
+     * Replaces the whole of this view, which was a view of {@code elementsBefore}, with a view of {@code elements},
+     * testing each of them.
+     */
+    private void refilter(List<? extends E> elementsBefore, List<? extends E> elements) {
+        List<E> removed = getMatches(elementsBefore);
+        root = build(elements, elements.size());
+        replaceAll(removed);
+    }
+
+    /**
+     * Reports the whole of this view as replaced, after the elements {@code removed} matched before.
+     */
+    private void replaceAll(List<E> removed) {
+        lastNode = null;
+        if (removed.isEmpty() && size() > 0) {
+            nextAdd(0, size());
+        } else if (!removed.isEmpty() && size() == 0) {
+            nextRemove(0, removed);
+        } else if (!removed.isEmpty()) {
+            nextReplace(0, size(), removed);
+        }
+    }
+
+    /**
+     * Returns the elements of {@code elements} that match, going by the bits recorded for them.
+     */
+    private List<E> getMatches(List<? extends E> elements) {
+        List<E> matches = new ArrayList<>(size());
+        collectMatches(root, 0, elements, matches);
+        return matches;
+    }
+
+    /**
+     * Adds to {@code matches} the elements that match in the subtree of {@code node}, whose first element is at
+     * position {@code start} of {@code elements}.
+     */
+    private static <T> void collectMatches(Node node, int start, List<? extends T> elements, List<T> matches) {
+        if (node == null) {
+            return;
+        }
+        collectMatches(node.left, start, elements, matches);
+        int nodeStart = start + size(node.left);
+        for (long bits = node.matches; bits != 0; bits &= bits - 1) {
+            matches.add(elements.get(nodeStart + Long.numberOfTrailingZeros(bits)));
+        }
+        collectMatches(node.right, nodeStart + node.count, elements, matches);
+    }
+
+    /**
+     * Returns true if the element at position {@code index} of the source list matches.
+     */
+    private boolean matches(int index) {
+        Node node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index < leftSize + node.count) {
+                return (node.matches >>> (index - leftSize) & 1) != 0;
+            } else {
+                index -= leftSize + node.count;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of elements before position {@code index} of the source list that match, which is the
+     * position in this view of the element at {@code index} if it matches.
+     */
+    private int countMatchesBefore(int index) {
+        Node node = root;
+        int matchCount = 0;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index < leftSize + node.count) {
+                return matchCount + matchCount(node.left) + Long.bitCount(node.matches & lowBits(index - leftSize));
+            } else {
+                matchCount += matchCount(node.left) + Long.bitCount(node.matches);
+                index -= leftSize + node.count;
+                node = node.right;
+            }
+        }
+        return matchCount;
+    }
+
+    /**
+     * Returns a perfectly balanced tree that records which of the {@code size} elements of {@code elements} match, or
+     * that none of them match if {@code elements} is null.
+     */
+    private Node build(List<? extends E> elements, int size) {
+        int nodeCount = (size + NODE_CAPACITY - 1) / NODE_CAPACITY;
+        return build(elements, size, nodeCount, 0, nodeCount);
+    }
+
+    /**
+     * Returns a perfectly balanced tree of the nodes from {@code fromNode} (inclusive) to {@code toNode} (exclusive),
+     * when the {@code size} elements are shared out evenly between {@code nodeCount} nodes.
+     */
+    private Node build(List<? extends E> elements, int size, int nodeCount, int fromNode, int toNode) {
+        if (fromNode == toNode) {
+            return null;
+        }
+        int middleNode = (fromNode + toNode) >>> 1;
+        Node left = build(elements, size, nodeCount, fromNode, middleNode);
+
+        Node node = new Node();
+        int from = (int) ((long) size * middleNode / nodeCount);
+        int to = (int) ((long) size * (middleNode + 1) / nodeCount);
+        for (int i = from; elements != null && i < to; i++) {
+            if (predicate.test(elements.get(i))) {
+                node.matches |= 1L << (i - from);
+            }
+        }
+        node.count = to - from;
+        node.left = left;
+        node.right = build(elements, size, nodeCount, middleNode + 1, toNode);
+        return update(node);
+    }
+
+    private static Node insert(Node node, int index, boolean matches) {
+        if (node == null) {
+            Node newNode = new Node();
+            newNode.count = 1;
+            newNode.matches = matches ? 1 : 0;
+            return update(newNode);
+        }
+
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            node.left = insert(node.left, index, matches);
+        } else if (index > leftSize + node.count) {
+            node.right = insert(node.right, index - leftSize - node.count, matches);
+        } else if (node.count == NODE_CAPACITY) {
+            // Move the second half of the bits to a new node right after this one, then insert into either half
+            Node secondHalf = new Node();
+            secondHalf.count = NODE_CAPACITY / 2;
+            secondHalf.matches = node.matches >>> (NODE_CAPACITY / 2);
+            node.count = NODE_CAPACITY / 2;
+            node.matches &= lowBits(NODE_CAPACITY / 2);
+            node.right = insertFirst(node.right, update(secondHalf));
+            return insert(balance(node), index, matches);
+        } else {
+            int position = index - leftSize;
+            long bit = matches ? 1L << position : 0;
+            node.matches = (node.matches & lowBits(position)) | bit | (node.matches >>> position << 1 << position);
+            node.count++;
+        }
+        return balance(node);
+    }
+
+    /**
+     * Returns {@code node} with {@code first} inserted before all of its nodes.
+     */
+    private static Node insertFirst(Node node, Node first) {
+        if (node == null) {
+            return first;
+        }
+        node.left = insertFirst(node.left, first);
+        return balance(node);
+    }
+
+    private static Node remove(Node node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            node.left = remove(node.left, index);
+        } else if (index >= leftSize + node.count) {
+            node.right = remove(node.right, index - leftSize - node.count);
+        } else if (node.count > 1) {
+            int position = index - leftSize;
+            node.matches = (node.matches & lowBits(position)) | (node.matches >>> position >>> 1 << position);
+            node.count--;
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            // The node is left empty, so it is replaced by the first node after it
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = removeFirst(node.right);
+            successor.left = node.left;
+            return balance(successor);
+        }
+        return balance(node);
+    }
+
+    /**
+     * Returns {@code node} without the first of its nodes.
+     */
+    private static Node removeFirst(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeFirst(node.left);
+        return balance(node);
+    }
+
+    private static Node setMatches(Node node, int index, boolean matches) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            node.left = setMatches(node.left, index, matches);
+        } else if (index >= leftSize + node.count) {
+            node.right = setMatches(node.right, index - leftSize - node.count, matches);
+        } else {
+            long bit = 1L << (index - leftSize);
+            node.matches = matches ? node.matches | bit : node.matches & ~bit;
+        }
+        return update(node);
+    }
+
+    /**
+     * Returns {@code node} rotated so that the heights of its two subtrees differ by at most one.
+     * Each subtree must be balanced, and their heights must differ by at most two, as they do after a single node is
+     * inserted or removed.
+     */
+    private static Node balance(Node node) {
+        if (height(node.left) > height(node.right) + 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (height(node.right) > height(node.left) + 1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return update(node);
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = update(node);
+        return update(pivot);
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = update(node);
+        return update(pivot);
+    }
+
+    /**
+     * Recounts the elements, matching elements and height of the subtree of {@code node} from those of its children,
+     * and returns {@code node}.
+     */
+    private static Node update(Node node) {
+        node.size = size(node.left) + node.count + size(node.right);
+        node.matchCount = matchCount(node.left) + Long.bitCount(node.matches) + matchCount(node.right);
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+        return node;
+    }
+
+    /**
+     * Returns the position of the {@code n}th (counting from zero) set bit of {@code bits}.
+     */
+    private static int selectBit(long bits, int n) {
+        for (int i = 0; i < n; i++) {
+            bits &= bits - 1;
+        }
+        return Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * Returns a mask of the lowest {@code count} bits, where {@code count} is less than 64.
+     */
+    private static long lowBits(int count) {
+        return (1L << count) - 1;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int matchCount(Node node) {
+        return node == null ? 0 : node.matchCount;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * A node of the tree, recording which of a run of consecutive elements of the source list match.
+     */
+    private static final class Node {
+        private Node left;
+        private Node right;
+        // The number of elements in the run, and a bit for each of them, lowest first, that is set if it matches
+        private int count;
+        private long matches;
+        // The number of elements, and of matching elements, in the subtree of this node
+        private int size;
+        private int matchCount;
+        private int height;
+    }
+}
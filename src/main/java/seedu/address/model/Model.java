@@ -1,11 +1,15 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -76,12 +80,104 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Deletes all of the given persons as one change to the person list.
+     * Every person must exist in the address book.
+     */
+    void deletePersons(Collection<Person> targets);
+
+    /**
+     * Adds all of the given persons as one change to the person list.
+     * None of {@code persons} may already exist in the address book, and {@code persons} must not contain duplicates.
+     */
+    void addPersons(Collection<Person> persons);
+
+    /**
+     * Replaces each key of {@code editedPersons} with the person it maps to, as one change to the person list.
+     * Every key must exist in the address book.
+     * The persons in the address book must remain unique in terms of identity after all of the replacements.
+     */
+    void setPersons(Map<Person, Person> editedPersons);
+
+    /**
+     * Returns the persons in the address book whose name contains {@code word} as a whole word, ignoring case.
+     * The persons are looked up in an index rather than by testing every name.
+     */
+    Set<Person> getPersonsWithNameWord(String word);
+
+    /**
+     * Returns the persons in the address book with the given tag.
+     * The persons are looked up in an index rather than by testing the tags of every person.
+     */
+    Set<Person> getPersonsWithTag(Tag tag);
+
+    /**
+     * Returns the lower-cased words of the names in the address book that are at most {@code maxDistance} edits away
+     * from {@code word} ignoring case, each mapped to its distance from {@code word}.
+     * An edit inserts, deletes or substitutes a character, or swaps two adjacent characters. The words are looked up
+     * in an index rather than by measuring the distance to every word.
+     */
+    Map<String, Integer> getNameWordsWithin(String word, int maxDistance);
+
+    /**
+     * Returns the persons in the address book whose phone number starts with {@code prefix}.
+     * The persons are looked up in an index rather than by testing every phone number.
+     */
+    Set<Person> getPersonsWithPhonePrefix(String prefix);
+
+    /**
+     * Replaces address book data with the data in {@code addressBook} as the initial state of the address book, which
+     * cannot be undone. The states before it, and any changes made since the last commit, are forgotten.
+     */
+    void setInitialAddressBook(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Saves the changes made to the address book since the last commit as a state that can be undone.
+     */
+    void commitAddressBook();
+
+    /**
+     * Discards the changes made to the address book since the last commit, restoring the last committed state.
+     * This takes time proportional to the number of persons the changes affected.
+     */
+    void rollbackAddressBook();
+
+    /**
+     * Returns true if the model has a previous address book state to restore.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if the model has an undone address book state to restore.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the model's address book to its previous state.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the model's address book to its previously undone state.
+     */
+    void redoAddressBook();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * The filter stays in effect as persons are added, edited and deleted, and only those persons are tested against
+     * it, so {@code predicate} must keep matching the right persons as the address book changes.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, which no person
+     * outside of {@code candidates} matches. When there are few candidates, only they are tested against it.
+     * As with {@link #updateFilteredPersonList(Predicate)}, the filter stays in effect as persons change.
+     * @throws NullPointerException if {@code predicate} or {@code candidates} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Collection<Person> candidates);
 }
@@ -4,14 +4,17 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -19,9 +22,15 @@ import seedu.address.model.person.Person;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final AddressBook addressBook;
+    /**
+     * The fewest persons in the address book for each candidate given to
+     * {@link #updateFilteredPersonList(Predicate, Collection)} for only the candidates to be tested.
+     */
+    private static final int MIN_PERSONS_PER_CANDIDATE = 32;
+
+    private final VersionedAddressBook versionedAddressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final IncrementalFilteredList<Person> filteredPersons;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -32,9 +41,10 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        versionedAddressBook = new VersionedAddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        filteredPersons =
+                new IncrementalFilteredList<>(versionedAddressBook.getPersonList(), PREDICATE_SHOW_ALL_PERSONS);
     }
 
     public ModelManager() {
@@ -80,36 +90,112 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
-        this.addressBook.resetData(addressBook);
+        versionedAddressBook.resetData(addressBook);
     }
 
     @Override
     public ReadOnlyAddressBook getAddressBook() {
-        return addressBook;
+        return versionedAddressBook;
     }
 
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
-        return addressBook.hasPerson(person);
+        return versionedAddressBook.hasPerson(person);
     }
 
     @Override
     public void deletePerson(Person target) {
-        addressBook.removePerson(target);
+        versionedAddressBook.removePerson(target);
     }
 
     @Override
     public void addPerson(Person person) {
-        addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        versionedAddressBook.addPerson(person);
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        addressBook.setPerson(target, editedPerson);
+        versionedAddressBook.setPerson(target, editedPerson);
+    }
+
+    @Override
+    public void deletePersons(Collection<Person> targets) {
+        requireNonNull(targets);
+        versionedAddressBook.removePersons(targets);
+    }
+
+    @Override
+    public void addPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        versionedAddressBook.addPersons(persons);
+    }
+
+    @Override
+    public void setPersons(Map<Person, Person> editedPersons) {
+        requireNonNull(editedPersons);
+        versionedAddressBook.setPersons(editedPersons);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithNameWord(String word) {
+        requireNonNull(word);
+        return versionedAddressBook.getPersonsWithNameWord(word);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return versionedAddressBook.getPersonsWithTag(tag);
+    }
+
+    @Override
+    public Map<String, Integer> getNameWordsWithin(String word, int maxDistance) {
+        requireNonNull(word);
+        return versionedAddressBook.getNameWordsWithin(word, maxDistance);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithPhonePrefix(String prefix) {
+        requireNonNull(prefix);
+        return versionedAddressBook.getPersonsWithPhonePrefix(prefix);
+    }
+
+    @Override
+    public void setInitialAddressBook(ReadOnlyAddressBook addressBook) {
+        versionedAddressBook.resetInitialState(addressBook);
+    }
+
+    @Override
+    public void commitAddressBook() {
+        versionedAddressBook.commit();
+    }
+
+    @Override
+    public void rollbackAddressBook() {
+        versionedAddressBook.discardUncommittedChange();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return versionedAddressBook.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return versionedAddressBook.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        versionedAddressBook.undo();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        versionedAddressBook.redo();
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -129,6 +215,21 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Collection<Person> candidates) {
+        requireAllNonNull(predicate, candidates);
+        if (candidates.size() > versionedAddressBook.getPersonList().size() / MIN_PERSONS_PER_CANDIDATE) {
+            // Finding the position of each of this many candidates takes longer than testing every person
+            filteredPersons.setPredicate(predicate);
+            return;
+        }
+        int[] candidateIndexes = candidates.stream()
+                .mapToInt(versionedAddressBook::indexOfPerson)
+                .filter(index -> index != -1)
+                .toArray();
+        filteredPersons.setPredicate(predicate, candidateIndexes);
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -143,7 +244,7 @@ public class ModelManager implements Model {
 
         // state check
         ModelManager other = (ModelManager) obj;
-        return addressBook.equals(other.addressBook)
+        return versionedAddressBook.equals(other.versionedAddressBook)
                 && userPrefs.equals(other.userPrefs)
                 && filteredPersons.equals(other.filteredPersons);
     }
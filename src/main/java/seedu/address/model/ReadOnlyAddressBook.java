@@ -1,7 +1,11 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListChange.Edit;
 
 /**
  * Unmodifiable view of an address book
@@ -14,4 +18,27 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the modification version of this address book.
+     * The version increases every time the persons list is modified, so an unchanged version means unchanged data.
+     */
+    long getVersion();
+
+    /**
+     * Returns an address book with the persons that this one has now, which later changes to this address book do not
+     * affect.
+     */
+    default ReadOnlyAddressBook getSnapshot() {
+        return new AddressBook(this);
+    }
+
+    /**
+     * Returns the edits that turn the persons of {@code earlier}, a snapshot taken of this address book before, into
+     * the persons that this address book has, in the order they were made. An empty Optional is returned if those
+     * edits are not known, in which case the persons of the two have to be compared instead.
+     */
+    default Optional<List<Edit>> getEditsSince(ReadOnlyAddressBook earlier) {
+        return Optional.empty();
+    }
+
 }
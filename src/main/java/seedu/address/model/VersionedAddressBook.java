@@ -0,0 +1,125 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.person.PersonListChange;
+
+/**
+ * An {@code AddressBook} that remembers its recently committed states, so that they can be undone and redone.
+ *
+ * Each state is remembered as the change that led to it from the previous state, rather than as a copy of the whole
+ * address book. A change shares the persons it did not affect with the states around it, so committing, undoing or
+ * redoing a change costs time and memory proportional to the number of persons it affected.
+ */
+public class VersionedAddressBook extends AddressBook {
+
+    /** The number of committed changes that are remembered. Older changes can no longer be undone. */
+    public static final int MAX_UNDO_COUNT = 100;
+
+    // The changes that led to each committed state from the one before, oldest first, of which the first
+    // currentStatePointer are applied
+    private final List<PersonListChange> addressBookStateList = new ArrayList<>();
+    private int currentStatePointer;
+
+    /**
+     * Creates a VersionedAddressBook whose initial state has the Persons in the {@code initialState}.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState) {
+        super(initialState);
+        recordChanges();
+    }
+
+    /**
+     * Saves the changes made since the last commit as a new state, discarding the states that were undone.
+     * Nothing is saved if there were no changes.
+     */
+    public void commit() {
+        PersonListChange change = takeChange();
+        if (change.isEmpty()) {
+            return;
+        }
+
+        addressBookStateList.subList(currentStatePointer, addressBookStateList.size()).clear();
+        addressBookStateList.add(change);
+        if (addressBookStateList.size() > MAX_UNDO_COUNT) {
+            addressBookStateList.remove(0);
+        }
+        currentStatePointer = addressBookStateList.size();
+    }
+
+    /**
+     * Replaces the data of this address book with {@code newData} as its initial state, forgetting the states before
+     * it and any changes made since the last commit, so that the replacement cannot be undone.
+     */
+    public void resetInitialState(ReadOnlyAddressBook newData) {
+        resetData(newData);
+        takeChange();
+        addressBookStateList.clear();
+        currentStatePointer = 0;
+    }
+
+    /**
+     * Returns true if there is a previous state to restore.
+     */
+    public boolean canUndo() {
+        return currentStatePointer > 0;
+    }
+
+    /**
+     * Returns true if there is an undone state to restore.
+     */
+    public boolean canRedo() {
+        return currentStatePointer < addressBookStateList.size();
+    }
+
+    /**
+     * Restores the previous state. Changes made since the last commit are discarded.
+     */
+    public void undo() {
+        if (!canUndo()) {
+            throw new NoUndoableStateException();
+        }
+        discardUncommittedChange();
+        undoChange(addressBookStateList.get(--currentStatePointer));
+    }
+
+    /**
+     * Restores the state that was last undone. Changes made since the last commit are discarded.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new NoRedoableStateException();
+        }
+        discardUncommittedChange();
+        redoChange(addressBookStateList.get(currentStatePointer++));
+    }
+
+    /**
+     * Restores the last committed state, discarding the changes made since.
+     */
+    public void discardUncommittedChange() {
+        PersonListChange change = takeChange();
+        if (!change.isEmpty()) {
+            undoChange(change);
+        }
+    }
+
+    /**
+     * Thrown when trying to {@code undo()} but there is no previous state.
+     */
+    public static class NoUndoableStateException extends RuntimeException {
+        private NoUndoableStateException() {
+            super("There is no previous state to restore");
+        }
+    }
+
+    /**
+     * Thrown when trying to {@code redo()} but there is no undone state.
+     */
+    public static class NoRedoableStateException extends RuntimeException {
+        private NoRedoableStateException() {
+            super("There is no undone state to restore");
+        }
+    }
+}
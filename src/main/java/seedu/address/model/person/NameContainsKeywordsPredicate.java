@@ -1,31 +1,142 @@
 package seedu.address.model.person;
 
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.naturalOrder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.StringUtil;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * A fuzzy keyword also matches the words of a name that are a few edits away from it, so that it still matches when
+ * either is misspelt.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final List<String> fuzzyKeywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
+        this(keywords, Collections.emptyList());
+    }
+
+    public NameContainsKeywordsPredicate(List<String> keywords, List<String> fuzzyKeywords) {
         this.keywords = keywords;
+        this.fuzzyKeywords = fuzzyKeywords;
+    }
+
+    /**
+     * Returns the most edits that a word of a name may be away from {@code fuzzyKeyword} for the keyword to match it.
+     * Longer keywords allow more edits, as they are more likely to be misspelt and less likely to be mistaken for
+     * other words. Keywords of one or two characters must match exactly.
+     */
+    public static int getMaxEdits(String fuzzyKeyword) {
+        if (fuzzyKeyword.length() <= 2) {
+            return 0;
+        } else if (fuzzyKeyword.length() <= 7) {
+            return 1;
+        }
+        return 2;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        String fullName = person.getName().fullName;
+        if (keywords.stream().anyMatch(keyword -> StringUtil.containsWordIgnoreCase(fullName, keyword))) {
+            return true;
+        }
+        for (String fuzzyKeyword : fuzzyKeywords) {
+            int maxEdits = getMaxEdits(fuzzyKeyword);
+            String lowerCaseKeyword = fuzzyKeyword.toLowerCase(Locale.ROOT);
+            for (String word : fullName.toLowerCase(Locale.ROOT).split("\\s+")) {
+                if (StringUtil.editDistance(lowerCaseKeyword, word, maxEdits) <= maxEdits) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the lower-cased name words that the fuzzy keywords match, found by looking up each fuzzy keyword with
+     * {@code nameWordsWithin}, which maps a word and a number of edits to the name words within that many edits of
+     * the word and their distances from it.
+     * The words are ranked from the fewest edits away from a fuzzy keyword to the most, and alphabetically among
+     * words the same number of edits away.
+     */
+    public List<String> findFuzzyMatches(BiFunction<String, Integer, Map<String, Integer>> nameWordsWithin) {
+        Map<String, Integer> distances = new HashMap<>();
+        for (String fuzzyKeyword : fuzzyKeywords) {
+            nameWordsWithin.apply(fuzzyKeyword, getMaxEdits(fuzzyKeyword))
+                    .forEach((word, distance) -> distances.merge(word, distance, Math::min));
+        }
+        return distances.keySet().stream()
+                .sorted(comparing((String word) -> distances.get(word)).thenComparing(naturalOrder()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a predicate that matches the same persons as this one, found by looking up each keyword with
+     * {@code personsWithNameWord} instead of splitting the name of each person into words.
+     * The keywords are looked up each time a person is tested, so the predicate keeps matching the same persons as
+     * this one while the persons that {@code personsWithNameWord} looks up in change.
+     * Fuzzy keywords are ignored; use {@link #lookUpWith(Function, Collection)} to match them as well.
+     */
+    public Predicate<Person> lookUpWith(Function<String, Set<Person>> personsWithNameWord) {
+        return lookUpWith(personsWithNameWord, Collections.emptyList());
+    }
+
+    /**
+     * Returns a predicate that matches the persons whose name contains a keyword or one of {@code fuzzyMatches}, the
+     * name words that the fuzzy keywords match as found by {@link #findFuzzyMatches(BiFunction)}. The persons are
+     * found by looking up each of these words with {@code personsWithNameWord} each time a person is tested.
+     * The words that the fuzzy keywords match are not looked up again, so a person whose name later comes to contain
+     * another word that a fuzzy keyword matches is not matched.
+     */
+    public Predicate<Person> lookUpWith(Function<String, Set<Person>> personsWithNameWord,
+            Collection<String> fuzzyMatches) {
+        List<String> words = new ArrayList<>(keywords);
+        words.addAll(fuzzyMatches);
+        return person -> {
+            for (String word : words) {
+                if (personsWithNameWord.apply(word).contains(person)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Returns the persons matched by the predicate that {@link #lookUpWith(Function, Collection)} returns for the
+     * same arguments, found by looking up each of the words once.
+     */
+    public Set<Person> lookUpMatches(Function<String, Set<Person>> personsWithNameWord,
+            Collection<String> fuzzyMatches) {
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        keywords.forEach(keyword -> matches.addAll(personsWithNameWord.apply(keyword)));
+        fuzzyMatches.forEach(word -> matches.addAll(personsWithNameWord.apply(word)));
+        return matches;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof NameContainsKeywordsPredicate // instanceof handles nulls
-                && keywords.equals(((NameContainsKeywordsPredicate) other).keywords)); // state check
+                && keywords.equals(((NameContainsKeywordsPredicate) other).keywords) // state check
+                && fuzzyKeywords.equals(((NameContainsKeywordsPredicate) other).fuzzyKeywords));
     }
 
 }
@@ -0,0 +1,277 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import javafx.collections.ModifiableObservableListBase;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.PersonListChange.Edit;
+
+/**
+ * An observable list of persons whose bulk operations each notify listeners with a single change.
+ *
+ * The general-purpose observable lists replace, remove and clear elements one at a time, shifting the backing array
+ * each time. The bulk operations here rebuild the backing list once instead, and report every element they touch
+ * within one change, so that listeners such as a {@code FilteredList} process a large mutation only once.
+ *
+ * The persons are held in a {@code PersistentList}, so the contents of the list at any moment can be kept as they
+ * are at no cost. Once {@link #recordChanges()} is called, the list also records its edits, so that the changes made
+ * to it can be taken with {@link #takeChange()} and later restored with {@link #restore(PersonListChange)}.
+ * Independently of that, the edits made between the snapshots taken with {@link #getSnapshot()} are kept with the
+ * snapshots, so that whoever holds an earlier snapshot can find out what changed since.
+ */
+class ObservablePersonList extends ModifiableObservableListBase<Person> {
+
+    static final String MESSAGE_CHANGE_NOT_APPLICABLE = "The change does not start from the current contents";
+
+    /** The most edits kept between two snapshots. The edits between snapshots further apart are not kept. */
+    static final int MAX_EDITS_BETWEEN_SNAPSHOTS = 1 << 16;
+
+    private PersistentList<Person> persons = PersistentList.empty();
+
+    // The last snapshot taken and the edits made since, or null if there were too many to keep
+    private PersonListSnapshot lastSnapshot = new PersonListSnapshot(persons);
+    private List<Edit> editsSinceSnapshot = new ArrayList<>();
+
+    // The contents when the edits started being recorded or were last taken, and the edits since, or null if the edits
+    // are not being recorded
+    private PersistentList<Person> changeStart;
+    private List<Edit> edits;
+
+    @Override
+    public Person get(int index) {
+        return persons.get(index);
+    }
+
+    @Override
+    public int size() {
+        return persons.size();
+    }
+
+    @Override
+    protected void doAdd(int index, Person person) {
+        persons = persons.inserting(index, person);
+        record(Edit.ofAdded(index, person));
+    }
+
+    @Override
+    protected Person doSet(int index, Person person) {
+        Person replaced = persons.get(index);
+        persons = persons.replacing(index, person);
+        record(Edit.ofReplaced(index, replaced, person));
+        return replaced;
+    }
+
+    @Override
+    protected Person doRemove(int index) {
+        Person removed = persons.get(index);
+        persons = persons.removing(index);
+        record(Edit.ofRemoved(index, removed));
+        return removed;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code replacement}, as one change.
+     */
+    @Override
+    public boolean setAll(Collection<? extends Person> replacement) {
+        requireNonNull(replacement);
+        PersistentList<Person> removed = persons;
+        persons = PersistentList.of(replacement);
+        if (removed.isEmpty() && persons.isEmpty()) {
+            return true;
+        }
+
+        record(new Edit(0, removed, persons));
+        beginChange();
+        try {
+            if (removed.isEmpty()) {
+                nextAdd(0, persons.size());
+            } else {
+                nextReplace(0, persons.size(), removed);
+            }
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    /**
+     * Removes every person in this list that is also in {@code toRemove}, as one change.
+     * {@code toRemove} should have a fast {@code contains} method, such as that of a hash set.
+     */
+    @Override
+    public boolean removeAll(Collection<?> toRemove) {
+        requireNonNull(toRemove);
+        PersistentList<Person> original = persons;
+        PersistentList<Person> kept = persons;
+        int keptCount = 0;
+
+        beginChange();
+        try {
+            for (Person person : persons) {
+                if (toRemove.contains(person)) {
+                    // Removed persons are reported at their position in the list as it stands after the change
+                    kept = kept.removing(keptCount);
+                    record(Edit.ofRemoved(keptCount, person));
+                    nextRemove(keptCount, person);
+                } else {
+                    keptCount++;
+                }
+            }
+        } finally {
+            persons = kept;
+            endChange();
+        }
+        return persons != original;
+    }
+
+    /**
+     * Replaces each person in this list with the result of applying {@code operator} to it, as one change.
+     * Only the persons that {@code operator} returns a different object for are reported as replaced.
+     */
+    @Override
+    public void replaceAll(UnaryOperator<Person> operator) {
+        requireNonNull(operator);
+        PersistentList<Person> replaced = persons;
+        int index = 0;
+
+        beginChange();
+        try {
+            for (Person oldPerson : persons) {
+                Person newPerson = requireNonNull(operator.apply(oldPerson));
+                if (newPerson != oldPerson) {
+                    replaced = replaced.replacing(index, newPerson);
+                    record(Edit.ofReplaced(index, oldPerson, newPerson));
+                    nextSet(index, oldPerson);
+                }
+                index++;
+            }
+        } finally {
+            persons = replaced;
+            endChange();
+        }
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        List<Person> removed = new ArrayList<>(persons.subList(fromIndex, toIndex));
+        for (int i = fromIndex; i < toIndex; i++) {
+            persons = persons.removing(fromIndex);
+        }
+        record(new Edit(fromIndex, removed, List.of()));
+
+        beginChange();
+        try {
+            nextRemove(fromIndex, removed);
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Starts recording the edits made to this list, as changes to be taken with {@link #takeChange()}.
+     */
+    void recordChanges() {
+        changeStart = persons;
+        edits = new ArrayList<>();
+    }
+
+    /**
+     * Returns the change made to this list since its edits started being recorded or since this method was last
+     * called.
+     */
+    PersonListChange takeChange() {
+        assert edits != null : "The edits to this list are not being recorded";
+        PersonListChange change = new PersonListChange(changeStart, persons, edits);
+        recordChanges();
+        return change;
+    }
+
+    /**
+     * Returns true if the contents of this list are those before {@code change}, with no edits since the last change
+     * was taken, so that the list can be restored to the contents after it.
+     */
+    boolean canRestore(PersonListChange change) {
+        return change.before == persons && (edits == null || edits.isEmpty());
+    }
+
+    /**
+     * Replaces the contents of this list with those after {@code change}, as one change made up of its edits.
+     * The list must be able to be restored as checked by {@link #canRestore(PersonListChange)}.
+     * The replacement is not recorded as an edit.
+     */
+    void restore(PersonListChange change) {
+        checkArgument(canRestore(change), MESSAGE_CHANGE_NOT_APPLICABLE);
+        persons = change.after;
+        if (edits != null) {
+            changeStart = persons;
+        }
+        if (change.isEmpty()) {
+            return;
+        }
+        for (Edit edit : change.edits) {
+            logSinceSnapshot(edit);
+        }
+
+        beginChange();
+        try {
+            for (Edit edit : change.edits) {
+                int to = edit.from + edit.added.size();
+                if (edit.removed.isEmpty()) {
+                    nextAdd(edit.from, to);
+                } else if (edit.added.isEmpty()) {
+                    nextRemove(edit.from, edit.removed);
+                } else {
+                    nextReplace(edit.from, to, edit.removed);
+                }
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Returns the contents of this list as they stand, which later changes to this list do not affect.
+     */
+    PersistentList<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns a snapshot of the contents of this list as they stand, which later changes to this list do not affect.
+     * The snapshot is linked to the one taken before it by the edits made in between.
+     */
+    PersonListSnapshot getSnapshot() {
+        if (lastSnapshot.getPersons() != persons) {
+            PersonListSnapshot snapshot = new PersonListSnapshot(persons);
+            lastSnapshot.link(snapshot, editsSinceSnapshot);
+            lastSnapshot = snapshot;
+            editsSinceSnapshot = new ArrayList<>();
+        }
+        return lastSnapshot;
+    }
+
+    private void record(Edit edit) {
+        if (edits != null) {
+            edits.add(edit);
+        }
+        logSinceSnapshot(edit);
+    }
+
+    private void logSinceSnapshot(Edit edit) {
+        if (editsSinceSnapshot == null) {
+            return;
+        }
+        if (editsSinceSnapshot.size() >= MAX_EDITS_BETWEEN_SNAPSHOTS) {
+            editsSinceSnapshot = null;
+            return;
+        }
+        editsSinceSnapshot.add(edit);
+    }
+}
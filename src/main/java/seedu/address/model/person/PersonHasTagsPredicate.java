@@ -0,0 +1,97 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Person} has at least one of the tags in each of the groups of tags given.
+ * The groups are combined with AND, and the tags within a group with OR.
+ */
+public class PersonHasTagsPredicate implements Predicate<Person> {
+    public static final String MESSAGE_NO_TAG_GROUPS = "There are no tags to look up the matching persons with";
+
+    private final List<Set<Tag>> tagGroups;
+
+    public PersonHasTagsPredicate(List<Set<Tag>> tagGroups) {
+        this.tagGroups = tagGroups;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return tagGroups.stream()
+                .allMatch(tagGroup -> tagGroup.stream().anyMatch(person.getTags()::contains));
+    }
+
+    /**
+     * Returns a predicate that matches the same persons as this one, testing first the group of tags that the fewest
+     * persons have, as looked up with {@code personsWithTag}, so that most persons that do not match are rejected by
+     * the first group tested.
+     * The predicate tests the tags of each person itself, so it keeps matching the same persons as this one while the
+     * persons that {@code personsWithTag} looks up in change.
+     */
+    public Predicate<Person> lookUpWith(Function<Tag, Set<Person>> personsWithTag) {
+        List<Set<Tag>> orderedTagGroups = orderByPersonCount(personsWithTag);
+        return person -> {
+            for (Set<Tag> tagGroup : orderedTagGroups) {
+                if (tagGroup.stream().noneMatch(person.getTags()::contains)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Returns the persons that match this predicate, found by looking up each tag with {@code personsWithTag} instead
+     * of testing the tags of every person.
+     * The persons with a tag of the group that the fewest persons have are looked up first, and only they are checked
+     * against the persons with the tags of each of the other groups in turn, so that the time taken is proportional
+     * to the number of persons in that group rather than to the number of persons in the address book.
+     * This predicate must have at least one group of tags, as otherwise every person matches.
+     */
+    public Set<Person> lookUpMatches(Function<Tag, Set<Person>> personsWithTag) {
+        checkArgument(!tagGroups.isEmpty(), MESSAGE_NO_TAG_GROUPS);
+        List<Set<Tag>> orderedTagGroups = orderByPersonCount(personsWithTag);
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        orderedTagGroups.get(0).forEach(tag -> matches.addAll(personsWithTag.apply(tag)));
+        for (Set<Tag> tagGroup : orderedTagGroups.subList(1, orderedTagGroups.size())) {
+            matches.removeIf(person -> tagGroup.stream().noneMatch(tag -> personsWithTag.apply(tag).contains(person)));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the groups of tags ordered by the number of persons with their tags, as looked up with
+     * {@code personsWithTag}, fewest first.
+     */
+    private List<Set<Tag>> orderByPersonCount(Function<Tag, Set<Person>> personsWithTag) {
+        List<Set<Tag>> orderedTagGroups = new ArrayList<>(tagGroups);
+        orderedTagGroups.sort(Comparator.comparingInt(tagGroup -> countPersons(tagGroup, personsWithTag)));
+        return orderedTagGroups;
+    }
+
+    /**
+     * Returns the number of persons with the tags in {@code tagGroup}, counting a person once for each of them.
+     */
+    private static int countPersons(Set<Tag> tagGroup, Function<Tag, Set<Person>> personsWithTag) {
+        return tagGroup.stream().mapToInt(tag -> personsWithTag.apply(tag).size()).sum();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonHasTagsPredicate // instanceof handles nulls
+                && tagGroups.equals(((PersonHasTagsPredicate) other).tagGroups)); // state check
+    }
+
+}
@@ -0,0 +1,90 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.util.PersistentList;
+
+/**
+ * A change made to the persons in a {@code UniquePersonList}, which the list can later undo and redo.
+ *
+ * The change keeps the contents of the list from before and after it, which share all but the changed part of their
+ * structure, together with the edits that turn one into the other. Undoing or redoing the change restores the
+ * contents as a whole and replays the edits only to update the indexes and listeners of the list, so it takes time
+ * proportional to the number of persons the change affected rather than to the size of the list.
+ */
+public final class PersonListChange {
+
+    final PersistentList<Person> before;
+    final PersistentList<Person> after;
+    final List<Edit> edits;
+
+    PersonListChange(PersistentList<Person> before, PersistentList<Person> after, List<Edit> edits) {
+        this.before = before;
+        this.after = after;
+        this.edits = edits;
+    }
+
+    /**
+     * Returns true if the change did not edit the list at all.
+     */
+    public boolean isEmpty() {
+        return edits.isEmpty();
+    }
+
+    /**
+     * Returns the change that reverses this one.
+     */
+    PersonListChange inverse() {
+        List<Edit> inverseEdits = new ArrayList<>(edits.size());
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            inverseEdits.add(edits.get(i).inverse());
+        }
+        return new PersonListChange(after, before, inverseEdits);
+    }
+
+    /**
+     * A replacement of the persons {@code removed}, starting at position {@code from} of the list, with the persons
+     * {@code added}. Either may be empty.
+     */
+    public static final class Edit {
+        final int from;
+        final List<Person> removed;
+        final List<Person> added;
+
+        Edit(int from, List<Person> removed, List<Person> added) {
+            this.from = from;
+            this.removed = removed;
+            this.added = added;
+        }
+
+        static Edit ofAdded(int index, Person added) {
+            return new Edit(index, Collections.emptyList(), Collections.singletonList(added));
+        }
+
+        static Edit ofReplaced(int index, Person removed, Person added) {
+            return new Edit(index, Collections.singletonList(removed), Collections.singletonList(added));
+        }
+
+        static Edit ofRemoved(int index, Person removed) {
+            return new Edit(index, Collections.singletonList(removed), Collections.emptyList());
+        }
+
+        Edit inverse() {
+            return new Edit(from, added, removed);
+        }
+
+        public int getFrom() {
+            return from;
+        }
+
+        public List<Person> getRemoved() {
+            return removed;
+        }
+
+        public List<Person> getAdded() {
+            return added;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.PersonListChange.Edit;
+
+/**
+ * The persons of a {@code UniquePersonList} at one moment, which never change.
+ *
+ * Each snapshot taken of a list is linked to the next one taken of it by the edits made to the list in between, so
+ * the edits between two snapshots can be found in time proportional to their number, without comparing the persons
+ * of the two snapshots.
+ */
+public final class PersonListSnapshot {
+
+    private final PersistentList<Person> persons;
+
+    // The snapshot taken of the list after this one together with the edits made in between, or null if no snapshot
+    // was taken since. Set on the thread that modifies the list, but read by any thread that holds a snapshot.
+    private volatile Link next;
+
+    PersonListSnapshot(PersistentList<Person> persons) {
+        this.persons = persons;
+    }
+
+    /**
+     * Returns the persons of the list at the moment this snapshot was taken.
+     */
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns the edits that turn the persons of {@code earlier}, a snapshot taken of the same list before this one,
+     * into the persons of this snapshot, in the order they were made. An empty Optional is returned if those edits are
+     * not known, such as when {@code earlier} was taken of another list or after this one.
+     */
+    public Optional<List<Edit>> getEditsSince(PersonListSnapshot earlier) {
+        requireNonNull(earlier);
+        List<Edit> edits = new ArrayList<>();
+        for (PersonListSnapshot snapshot = earlier; snapshot != this;) {
+            Link link = snapshot.next;
+            if (link == null || link.edits == null) {
+                return Optional.empty();
+            }
+            edits.addAll(link.edits);
+            snapshot = link.snapshot;
+        }
+        return Optional.of(edits);
+    }
+
+    /**
+     * Links {@code nextSnapshot} as the snapshot taken after this one, with {@code edits} made to the list in between,
+     * or null if they were not kept.
+     */
+    void link(PersonListSnapshot nextSnapshot, List<Edit> edits) {
+        assert next == null : "A later snapshot is already linked";
+        next = new Link(nextSnapshot, edits);
+    }
+
+    private static final class Link {
+        private final PersonListSnapshot snapshot;
+        private final List<Edit> edits;
+
+        private Link(PersonListSnapshot snapshot, List<Edit> edits) {
+            this.snapshot = snapshot;
+            this.edits = edits;
+        }
+    }
+}
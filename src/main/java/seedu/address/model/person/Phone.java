@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -12,6 +14,9 @@ public class Phone {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be at least 3 digits long";
+    public static final String MESSAGE_PREFIX_CONSTRAINTS =
+            "Phone number prefixes should only contain numbers, and it should be at least 1 digit long";
+    // Matched by hand in isValidPhone(String)
     public static final String VALIDATION_REGEX = "\\d{3,}";
     public final String value;
 
@@ -21,16 +26,45 @@ public class Phone {
      * @param phone A valid phone number.
      */
     public Phone(String phone) {
+        this(phone, false);
+    }
+
+    private Phone(String phone, boolean isValidated) {
         requireNonNull(phone);
-        checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        if (!isValidated) {
+            checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        }
         value = phone;
     }
 
+    /**
+     * Returns a {@code Phone} holding {@code phone}, without validating it again.
+     * {@code phone} must already be known to be valid as declared in {@link #isValidPhone(String)}.
+     */
+    public static Phone ofValidated(String phone) {
+        return new Phone(phone, true);
+    }
+
     /**
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return test.length() >= 3 && isValidPhonePrefix(test);
+    }
+
+    /**
+     * Returns true if a given string is a valid prefix of a phone number.
+     */
+    public static boolean isValidPhonePrefix(String test) {
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!StringUtil.isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -0,0 +1,42 @@
+package seedu.address.model.person;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Person}'s {@code Phone} starts with any of the prefixes given.
+ */
+public class PhoneStartsWithPredicate implements Predicate<Person> {
+    private final List<String> prefixes;
+
+    public PhoneStartsWithPredicate(List<String> prefixes) {
+        this.prefixes = prefixes;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return prefixes.stream().anyMatch(person.getPhone().value::startsWith);
+    }
+
+    /**
+     * Returns the persons that match this predicate, found by looking up each prefix with
+     * {@code personsWithPhonePrefix} instead of testing the phone number of every person.
+     */
+    public Set<Person> lookUpMatches(Function<String, Set<Person>> personsWithPhonePrefix) {
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        prefixes.forEach(prefix -> matches.addAll(personsWithPhonePrefix.apply(prefix)));
+        return matches;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PhoneStartsWithPredicate // instanceof handles nulls
+                && prefixes.equals(((PhoneStartsWithPredicate) other).prefixes)); // state check
+    }
+
+}
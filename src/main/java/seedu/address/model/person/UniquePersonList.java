@@ -1,15 +1,30 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,22 +33,63 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity lookups are answered through hash indexes keyed on (name, phone) and (name, email), which together
+ * cover every pair of persons that {@code Person#isSamePerson(Person)} considers the same. The words of each name and
+ * the tags of each person are indexed as well, so that persons can be found by name or tag without scanning the list.
+ * The name words are in turn indexed by their trigrams, so that the name words close to a misspelt word can be found
+ * without measuring its distance to every name word.
+ * The phone numbers are indexed in order, so that the persons whose phone number starts with a given prefix are found
+ * together.
+ * The position of each person is recorded too, so that a person can be removed or replaced without scanning the list
+ * for it.
+ *
+ * The bulk operations each notify listeners of the list with a single change, however many persons they affect.
+ * The indexes are updated before the list itself, so that listeners notified of a change, such as a filtered view of
+ * the list, can already look up the persons it added.
+ *
+ * Once {@link #recordChanges()} is called, the changes made to the list can be taken as {@code PersonListChange}s,
+ * which the list can later undo and redo.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final ObservablePersonList internalList = new ObservablePersonList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Number of persons in internalList under each identity key
+    private final Map<IdentityKey, Integer> namePhoneIndex = new HashMap<>();
+    private final Map<IdentityKey, Integer> nameEmailIndex = new HashMap<>();
+
+    // Persons in internalList under each lower-cased word of their name
+    private final Map<String, Set<Person>> nameWordIndex = new HashMap<>();
+
+    // The keys of nameWordIndex, by the trigrams they contain
+    private final WordTrigramIndex nameWordTrigramIndex = new WordTrigramIndex(nameWordIndex.keySet());
+
+    // Persons in internalList with each tag
+    private final Map<Tag, Set<Person>> tagIndex = new HashMap<>();
+
+    // Persons in internalList with each phone number, ordered by phone number
+    private final NavigableMap<String, Set<Person>> phoneIndex = new TreeMap<>();
+
+    // Position of each person in internalList when it was recorded. As each removal or insertion since then moves a
+    // person by at most one place, a person is at most removalsSincePositionsRecorded places before its recorded
+    // position, and at most insertionsSincePositionsRecorded places after it.
+    private final Map<Person, Integer> positions = new HashMap<>();
+    private int removalsSincePositionsRecorded;
+    private int insertionsSincePositionsRecorded;
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return namePhoneIndex.containsKey(IdentityKey.ofNamePhone(toCheck))
+                || nameEmailIndex.containsKey(IdentityKey.ofNameEmail(toCheck));
     }
 
     /**
@@ -45,6 +101,8 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        index(toAdd);
+        positions.put(toAdd, internalList.size());
         internalList.add(toAdd);
     }
 
@@ -56,7 +114,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,6 +123,11 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        Person replaced = internalList.get(index);
+        unindex(replaced);
+        index(editedPerson);
+        positions.remove(replaced);
+        positions.put(editedPerson, index);
         internalList.set(index, editedPerson);
     }
 
@@ -74,14 +137,103 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        Person removed = internalList.get(index);
+        unindex(removed);
+        positions.remove(removed);
+        internalList.remove(index);
+        if (index < internalList.size()) {
+            // Only the persons after the removed one move
+            notePositionsShifted(1, 0);
+        }
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list, as one change.
+     * None of the persons may already exist in the list, and {@code toAdd} must not contain duplicate persons.
+     */
+    public void addAll(Collection<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        List<Person> additions = new ArrayList<>(toAdd);
+        if (additions.stream().anyMatch(this::contains) || !personsAreUnique(additions)) {
+            throw new DuplicatePersonException();
+        }
+
+        additions.forEach(this::index);
+        int firstPosition = internalList.size();
+        for (int i = 0; i < additions.size(); i++) {
+            positions.put(additions.get(i), firstPosition + i);
+        }
+        internalList.addAll(additions);
+    }
+
+    /**
+     * Replaces each person in the list that is a key of {@code editedPersons} with the person it maps to, as one
+     * change. Every key must exist in the list.
+     * The persons in the list must remain unique in terms of identity after all of the replacements.
+     */
+    public void setPersons(Map<Person, Person> editedPersons) {
+        requireAllNonNull(editedPersons.keySet());
+        requireAllNonNull(editedPersons.values());
+
+        List<Person> replacement = new ArrayList<>(internalList.size());
+        // The persons of the list that are replaced, rather than the keys equal to them, as the indexes hold the
+        // persons of the list by reference
+        List<Person> replaced = new ArrayList<>(editedPersons.size());
+        for (Person person : internalList) {
+            Person editedPerson = editedPersons.get(person);
+            if (editedPerson != null) {
+                replaced.add(person);
+            }
+            replacement.add(editedPerson == null ? person : editedPerson);
+        }
+        if (replaced.size() != editedPersons.size()) {
+            throw new PersonNotFoundException();
+        }
+        if (!personsAreUnique(replacement)) {
+            throw new DuplicatePersonException();
+        }
+
+        replaced.forEach(this::unindex);
+        editedPersons.values().forEach(this::index);
+        internalList.replaceAll(person -> editedPersons.getOrDefault(person, person));
+        recordPositions();
+    }
+
+    /**
+     * Removes all of the equivalent persons in {@code toRemove} from the list, as one change.
+     * Every person must exist in the list.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Person> removals = new HashSet<>(toRemove);
+        List<Person> removed = new ArrayList<>(removals.size());
+        internalList.stream().filter(removals::contains).forEach(removed::add);
+        if (removed.size() != removals.size()) {
+            throw new PersonNotFoundException();
+        }
+
+        removed.forEach(this::unindex);
+        internalList.removeAll(removals);
+        recordPositions();
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        namePhoneIndex.clear();
+        namePhoneIndex.putAll(replacement.namePhoneIndex);
+        nameEmailIndex.clear();
+        nameEmailIndex.putAll(replacement.nameEmailIndex);
+        copyIndex(replacement.nameWordIndex, nameWordIndex);
+        nameWordTrigramIndex.rebuild();
+        copyIndex(replacement.tagIndex, tagIndex);
+        copyIndex(replacement.phoneIndex, phoneIndex);
+        internalList.setAll(replacement.internalList.getPersons());
+        recordPositions();
     }
 
     /**
@@ -94,7 +246,122 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        namePhoneIndex.clear();
+        nameEmailIndex.clear();
+        nameWordIndex.clear();
+        nameWordTrigramIndex.rebuild();
+        tagIndex.clear();
+        phoneIndex.clear();
+        persons.forEach(this::index);
         internalList.setAll(persons);
+        recordPositions();
+    }
+
+    /**
+     * Starts recording the changes made to this list, to be taken with {@link #takeChange()}.
+     */
+    public void recordChanges() {
+        internalList.recordChanges();
+    }
+
+    /**
+     * Returns the change made to this list since its changes started being recorded or since this method was last
+     * called.
+     */
+    public PersonListChange takeChange() {
+        return internalList.takeChange();
+    }
+
+    /**
+     * Restores this list to what it was before {@code change}, as one change.
+     * The list must be as it was right after {@code change}, with no changes made since.
+     */
+    public void undo(PersonListChange change) {
+        requireNonNull(change);
+        apply(change.inverse());
+    }
+
+    /**
+     * Restores this list to what it was after {@code change}, as one change.
+     * The list must be as it was right before {@code change}, with no changes made since.
+     */
+    public void redo(PersonListChange change) {
+        requireNonNull(change);
+        apply(change);
+    }
+
+    /**
+     * Returns the persons in the list whose name contains {@code word} as a whole word, ignoring case.
+     * The returned set is an unmodifiable view that reflects later changes to the list.
+     */
+    public Set<Person> getPersonsWithNameWord(String word) {
+        requireNonNull(word);
+        Set<Person> persons = nameWordIndex.get(word.toLowerCase(Locale.ROOT));
+        return persons == null ? Collections.emptySet() : Collections.unmodifiableSet(persons);
+    }
+
+    /**
+     * Returns the words of the names of the persons in the list, lower-cased, that are at most {@code maxDistance}
+     * edits away from {@code word} ignoring case, each mapped to its distance from {@code word}.
+     * The distance is measured as by {@link StringUtil#editDistance(String, String, int)}.
+     */
+    public Map<String, Integer> getNameWordsWithin(String word, int maxDistance) {
+        requireNonNull(word);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+        return nameWordTrigramIndex.findWordsWithin(word.toLowerCase(Locale.ROOT), maxDistance);
+    }
+
+    /**
+     * Returns the persons in the list with the given tag.
+     * The returned set is an unmodifiable view that reflects later changes to the list.
+     */
+    public Set<Person> getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        Set<Person> persons = tagIndex.get(tag);
+        return persons == null ? Collections.emptySet() : Collections.unmodifiableSet(persons);
+    }
+
+    /**
+     * Returns the persons in the list whose phone number starts with {@code prefix}.
+     * The persons are found in time proportional to the logarithm of the size of the list plus the number of persons
+     * found. The returned set is not affected by later changes to the list.
+     */
+    public Set<Person> getPersonsWithPhonePrefix(String prefix) {
+        requireNonNull(prefix);
+        Set<Person> persons = newPersonSet();
+        // Every phone number that starts with the prefix sorts between the prefix and the prefix followed by the
+        // greatest character
+        phoneIndex.subMap(prefix, prefix + Character.MAX_VALUE).values().forEach(persons::addAll);
+        return persons;
+    }
+
+    /**
+     * Returns the position in the list of the person equal to {@code person}, or -1 if there is none.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        Integer recordedPosition = positions.get(person);
+        if (recordedPosition == null) {
+            return -1;
+        }
+
+        int earliestPosition = Math.max(0, recordedPosition - removalsSincePositionsRecorded);
+        int latestPosition = Math.min(recordedPosition + insertionsSincePositionsRecorded, internalList.size() - 1);
+        for (int i = latestPosition; i >= earliestPosition; i--) {
+            if (internalList.get(i).equals(person)) {
+                return i;
+            }
+        }
+        assert false : "Recorded position of " + person + " is out of date";
+        return internalList.indexOf(person);
+    }
+
+    /**
+     * Returns the persons in the list as they are now, in a snapshot that later changes to this list do not affect.
+     * The snapshot is taken in constant time, as it shares its structure with the backing list.
+     */
+    public PersonListSnapshot getSnapshot() {
+        return internalList.getSnapshot();
     }
 
     /**
@@ -106,7 +373,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -125,13 +392,163 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<IdentityKey> namePhones = new HashSet<>();
+        Set<IdentityKey> nameEmails = new HashSet<>();
+        for (Person person : persons) {
+            if (!namePhones.add(IdentityKey.ofNamePhone(person))
+                    || !nameEmails.add(IdentityKey.ofNameEmail(person))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Updates the indexes with the edits of {@code change}, then replaces the contents of the list with those after it.
+     */
+    private void apply(PersonListChange change) {
+        checkArgument(internalList.canRestore(change), ObservablePersonList.MESSAGE_CHANGE_NOT_APPLICABLE);
+        int removals = 0;
+        int insertions = 0;
+        for (PersonListChange.Edit edit : change.edits) {
+            for (Person removed : edit.removed) {
+                positions.remove(removed);
+                unindex(removed);
+            }
+            for (int i = 0; i < edit.added.size(); i++) {
+                Person added = edit.added.get(i);
+                positions.put(added, edit.from + i);
+                index(added);
+            }
+            // Only the persons after the edit that are not replaced one for one move
+            int shift = edit.added.size() - edit.removed.size();
+            removals += Math.max(0, -shift);
+            insertions += Math.max(0, shift);
+        }
+        internalList.restore(change);
+        notePositionsShifted(removals, insertions);
+    }
+
+    /**
+     * Records the current position of every person in the list.
+     */
+    private void recordPositions() {
+        positions.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
+        removalsSincePositionsRecorded = 0;
+        insertionsSincePositionsRecorded = 0;
+    }
+
+    /**
+     * Notes that persons have moved since their positions were recorded, by {@code removals} removals and
+     * {@code insertions} insertions before them, and records the positions again if they have moved too far.
+     */
+    private void notePositionsShifted(int removals, int insertions) {
+        removalsSincePositionsRecorded += removals;
+        insertionsSincePositionsRecorded += insertions;
+        // Recording every position again takes time proportional to the size of the list, and looking a person up
+        // takes time proportional to the shifts since, so positions are recorded after every sqrt(size) shifts
+        long shifts = removalsSincePositionsRecorded + insertionsSincePositionsRecorded;
+        if (shifts * shifts > internalList.size()) {
+            recordPositions();
+        }
+    }
+
+    /**
+     * Records the identity keys, name words, tags and phone number of {@code person} in the indexes.
+     */
+    private void index(Person person) {
+        namePhoneIndex.merge(IdentityKey.ofNamePhone(person), 1, Integer::sum);
+        nameEmailIndex.merge(IdentityKey.ofNameEmail(person), 1, Integer::sum);
+        for (String word : getNameWords(person)) {
+            nameWordIndex.computeIfAbsent(word, newWord -> {
+                nameWordTrigramIndex.add(newWord);
+                return newPersonSet();
+            }).add(person);
+        }
+        for (Tag tag : person.getTags()) {
+            tagIndex.computeIfAbsent(tag, unused -> newPersonSet()).add(person);
+        }
+        phoneIndex.computeIfAbsent(person.getPhone().value, unused -> newPersonSet()).add(person);
+    }
+
+    /**
+     * Removes the identity keys, name words, tags and phone number of {@code person} from the indexes.
+     */
+    private void unindex(Person person) {
+        namePhoneIndex.computeIfPresent(IdentityKey.ofNamePhone(person), (key, count) -> count == 1 ? null : count - 1);
+        nameEmailIndex.computeIfPresent(IdentityKey.ofNameEmail(person), (key, count) -> count == 1 ? null : count - 1);
+        for (String word : getNameWords(person)) {
+            Set<Person> persons = nameWordIndex.get(word);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                nameWordIndex.remove(word);
+                nameWordTrigramIndex.remove(word);
+            }
+        }
+        for (Tag tag : person.getTags()) {
+            tagIndex.computeIfPresent(tag, (key, persons) -> persons.remove(person) && persons.isEmpty()
+                    ? null : persons);
+        }
+        phoneIndex.computeIfPresent(person.getPhone().value, (key, persons) -> persons.remove(person)
+                && persons.isEmpty() ? null : persons);
+    }
+
+    /**
+     * Replaces the contents of {@code target} with copies of the person sets in {@code source}.
+     */
+    private static <K> void copyIndex(Map<K, Set<Person>> source, Map<K, Set<Person>> target) {
+        target.clear();
+        source.forEach((key, persons) -> {
+            Set<Person> copy = newPersonSet();
+            copy.addAll(persons);
+            target.put(key, copy);
+        });
+    }
+
+    private static String[] getNameWords(Person person) {
+        return person.getName().fullName.toLowerCase(Locale.ROOT).split("\\s+");
+    }
+
+    /**
+     * Returns an empty set that compares persons by reference, as each person in the list is a distinct object.
+     */
+    private static Set<Person> newPersonSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * A person's name paired with one of its other identity fields.
+     */
+    private static class IdentityKey {
+        private final Name name;
+        private final Object field;
+
+        private IdentityKey(Name name, Object field) {
+            this.name = name;
+            this.field = field;
+        }
+
+        static IdentityKey ofNamePhone(Person person) {
+            return new IdentityKey(person.getName(), person.getPhone());
+        }
+
+        static IdentityKey ofNameEmail(Person person) {
+            return new IdentityKey(person.getName(), person.getEmail());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof IdentityKey // instanceof handles nulls
+                    && name.equals(((IdentityKey) other).name)
+                    && field.equals(((IdentityKey) other).field));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, field);
+        }
+    }
 }
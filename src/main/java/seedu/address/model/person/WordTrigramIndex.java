@@ -0,0 +1,121 @@
+package seedu.address.model.person;
+
+import static java.util.Comparator.comparingInt;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An index of a set of words by the trigrams, or runs of three characters, that they contain, to find the words that
+ * are a few edits away from a given word without measuring its distance to every word.
+ *
+ * Each word is padded with two spaces on both sides before it is split into trigrams, so that even a short word has
+ * several of them. A single edit changes at most four trigrams, so a word within d edits of another lacks at most 4d
+ * of the other word's distinct trigrams, and has at least one of any 4d + 1 of them. Only the words that have one of
+ * the 4d + 1 least common trigrams of a word have their distance to it measured.
+ *
+ * A removed word is left in the lists of words of its trigrams, and skipped when found there, until the removed words
+ * outnumber those still indexed and the index is rebuilt. Removing a word thus takes constant amortized time, rather
+ * than the time to search the lists of words of each of its trigrams.
+ */
+final class WordTrigramIndex {
+
+    /** The most trigrams that a single edit changes, which swapping two adjacent characters does. */
+    private static final int MAX_TRIGRAMS_CHANGED_PER_EDIT = 4;
+
+    // The indexed words, kept by the owner of this index, which tells this index of each word it adds or removes
+    private final Set<String> words;
+
+    // Words containing each trigram, including removed words, and a word again each time it was added
+    private final Map<String, List<String>> wordsWithTrigram = new HashMap<>();
+    private int removedWordCount;
+
+    /**
+     * Creates an index of {@code words}, which must be empty. The index must then be told of each word added to or
+     * removed from {@code words}.
+     */
+    WordTrigramIndex(Set<String> words) {
+        this.words = words;
+    }
+
+    /**
+     * Indexes {@code word}, which has just been added to the indexed words.
+     */
+    void add(String word) {
+        // A trigram that occurs twice in the word lists the word twice, which only makes it found twice
+        String paddedWord = pad(word);
+        for (int i = 0; i + 3 <= paddedWord.length(); i++) {
+            wordsWithTrigram.computeIfAbsent(paddedWord.substring(i, i + 3), unused -> new ArrayList<>()).add(word);
+        }
+    }
+
+    /**
+     * Notes that {@code word} has just been removed from the indexed words.
+     */
+    void remove(String word) {
+        removedWordCount++;
+        if (removedWordCount > words.size()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Indexes the indexed words anew, after they were replaced without telling this index of each word.
+     */
+    void rebuild() {
+        wordsWithTrigram.clear();
+        removedWordCount = 0;
+        words.forEach(this::add);
+    }
+
+    /**
+     * Returns the indexed words within {@code maxDistance} edits of {@code word}, each mapped to its distance from
+     * {@code word} as measured by {@link StringUtil#editDistance(String, String, int)}.
+     */
+    Map<String, Integer> findWordsWithin(String word, int maxDistance) {
+        List<String> trigrams = new ArrayList<>(getTrigrams(word));
+        int searchedTrigramCount = MAX_TRIGRAMS_CHANGED_PER_EDIT * maxDistance + 1;
+        Collection<String> candidates = words;
+        if (searchedTrigramCount <= trigrams.size()) {
+            trigrams.sort(comparingInt(trigram -> getWordsWithTrigram(trigram).size()));
+            candidates = new HashSet<>();
+            for (String trigram : trigrams.subList(0, searchedTrigramCount)) {
+                candidates.addAll(getWordsWithTrigram(trigram));
+            }
+        }
+
+        Map<String, Integer> wordsWithin = new HashMap<>();
+        for (String candidate : candidates) {
+            int distance = StringUtil.editDistance(word, candidate, maxDistance);
+            if (distance <= maxDistance && words.contains(candidate)) {
+                wordsWithin.put(candidate, distance);
+            }
+        }
+        return wordsWithin;
+    }
+
+    private List<String> getWordsWithTrigram(String trigram) {
+        return wordsWithTrigram.getOrDefault(trigram, Collections.emptyList());
+    }
+
+    private static String pad(String word) {
+        return "  " + word + "  ";
+    }
+
+    private static Set<String> getTrigrams(String word) {
+        String paddedWord = pad(word);
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= paddedWord.length(); i++) {
+            trigrams.add(paddedWord.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+}
@@ -3,15 +3,30 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ *
+ * As few distinct tag names are shared by many persons, {@link #of(String)} returns a single shared instance per name.
+ * The shared instances are held only weakly, so that a tag that is no longer used is not kept for the rest of the
+ * session.
  */
 public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
+    // isValidTagName(String) matches this by hand
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    // Each shared tag by its own name, which only the tag refers to, so that both are dropped once the tag is unused.
+    // Guarded by its own lock.
+    private static final Map<String, WeakReference<Tag>> sharedTags = new WeakHashMap<>();
+
     public final String tagName;
 
     /**
@@ -25,11 +40,39 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} with the given name, creating it the first time the name is seen.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        synchronized (sharedTags) {
+            WeakReference<Tag> sharedTag = sharedTags.get(tagName);
+            Tag tag = sharedTag == null ? null : sharedTag.get();
+            if (tag == null) {
+                tag = new Tag(tagName);
+                // Removed first, as a put would otherwise keep the key of an entry whose tag was dropped
+                sharedTags.remove(tagName);
+                sharedTags.put(tag.tagName, new WeakReference<>(tag));
+            }
+            return tag;
+        }
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!StringUtil.isAsciiAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -0,0 +1,143 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of tags, ordered by tag name.
+ * Guarantees: immutable; contains no nulls; every tag is the shared instance returned by {@link Tag#of(String)}.
+ *
+ * The tags are kept in a sorted array rather than a hash table, as persons have few tags each. A person with no
+ * tags shares a single empty set.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    private static final Comparator<Tag> TAG_NAME_ORDER = Comparator.comparing(tag -> tag.tagName);
+    private static final TagSet EMPTY = new TagSet(new Tag[0]);
+
+    private final Tag[] tags;
+    private final int hashCode;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+        hashCode = super.hashCode();
+    }
+
+    /**
+     * Returns a {@code TagSet} with the distinct tags in {@code tags}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        Tag[] sharedTags = new Tag[tags.size()];
+        int i = 0;
+        for (Tag tag : tags) {
+            sharedTags[i++] = Tag.of(tag.tagName);
+        }
+        Arrays.sort(sharedTags, TAG_NAME_ORDER);
+
+        // Drop the duplicates that a collection other than a set may contain
+        int distinctCount = 1;
+        for (int j = 1; j < sharedTags.length; j++) {
+            if (sharedTags[j] != sharedTags[distinctCount - 1]) {
+                sharedTags[distinctCount++] = sharedTags[j];
+            }
+        }
+        return new TagSet(distinctCount == sharedTags.length ? sharedTags : Arrays.copyOf(sharedTags, distinctCount));
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        return other instanceof Tag && Arrays.binarySearch(tags, (Tag) other, TAG_NAME_ORDER) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof TagSet) {
+            // Both arrays are sorted by name and hold shared instances, so equal sets hold the same array contents
+            return other == this
+                    || (hashCode == ((TagSet) other).hashCode && Arrays.equals(tags, ((TagSet) other).tags));
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    // Every mutator throws, whether or not the call would have changed the set
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> others) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> others) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> others) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < tags.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return tags[next++];
+            }
+        };
+    }
+}
@@ -42,4 +42,18 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Returns true if a save made to the storage failed to be written after the call to save returned, and the address
+     * book has not been saved to the same file since. Storages that write each save before returning never do.
+     */
+    default boolean hasFailedWrite() {
+        return false;
+    }
+
+    /**
+     * Blocks until every save made so far has been written to the storage.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushAddressBook() throws IOException;
+
 }
@@ -0,0 +1,263 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ *
+ * The file holds, in order: a header of {@link #MAGIC_NUMBER} and {@link #FORMAT_VERSION}; a table of every
+ * distinct tag name; the persons, each as its name, phone, email and address followed by the table positions of
+ * its tags; and a CRC32 checksum of everything before it. Strings are stored as their UTF-8 length followed by
+ * their UTF-8 bytes.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int MAGIC_NUMBER = 0xAB3B1A7A;
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "Not a binary data file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary data file version %d";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Binary data file is corrupted: checksum mismatch";
+    public static final String MESSAGE_INVALID_TAG_INDEX = "Binary data file is corrupted: tag %d does not exist";
+
+    private static final int MAX_STRING_LENGTH = 1 << 24;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return Optional.of(read(in));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is written to a temporary file first and then moved into place.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+            write(addressBook, out);
+        }
+        Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // Saves are written synchronously, so there is nothing pending
+    }
+
+    private static void write(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        CRC32 checksum = new CRC32();
+        DataOutputStream checkedOut = new DataOutputStream(new CheckedOutputStream(out, checksum));
+        List<Person> persons = addressBook.getPersonList();
+
+        Map<String, Integer> tagTable = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                tagTable.putIfAbsent(tag.tagName, tagTable.size());
+            }
+        }
+
+        checkedOut.writeInt(MAGIC_NUMBER);
+        checkedOut.writeInt(FORMAT_VERSION);
+        checkedOut.writeInt(tagTable.size());
+        for (String tagName : tagTable.keySet()) {
+            writeString(checkedOut, tagName);
+        }
+
+        checkedOut.writeInt(persons.size());
+        for (Person person : persons) {
+            writeString(checkedOut, person.getName().fullName);
+            writeString(checkedOut, person.getPhone().value);
+            writeString(checkedOut, person.getEmail().value);
+            writeString(checkedOut, person.getAddress().value);
+            checkedOut.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                checkedOut.writeInt(tagTable.get(tag.tagName));
+            }
+        }
+
+        checkedOut.flush();
+        out.writeLong(checksum.getValue());
+    }
+
+    private static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        CRC32 checksum = new CRC32();
+        DataInputStream checkedIn = new DataInputStream(new CheckedInputStream(in, checksum));
+
+        if (checkedIn.readInt() != MAGIC_NUMBER) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FILE);
+        }
+        int version = checkedIn.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        Tag[] tagTable = new Tag[readCount(checkedIn)];
+        try {
+            for (int i = 0; i < tagTable.length; i++) {
+                tagTable[i] = Tag.of(readString(checkedIn));
+            }
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(iae.getMessage(), iae);
+        }
+
+        int personCount = readCount(checkedIn);
+        List<Person> persons = new ArrayList<>(Math.min(personCount, 1 << 16));
+        for (int i = 0; i < personCount; i++) {
+            persons.add(readPerson(checkedIn, tagTable));
+        }
+
+        long expectedChecksum = checksum.getValue();
+        if (new DataInputStream(in).readLong() != expectedChecksum) {
+            throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (RuntimeException re) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, re);
+        }
+        return addressBook;
+    }
+
+    private static Person readPerson(DataInputStream in, Tag[] tagTable) throws IOException, IllegalValueException {
+        String name = readString(in);
+        String phone = readString(in);
+        String email = readString(in);
+        String address = readString(in);
+
+        int tagCount = readCount(in);
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            int tagIndex = in.readInt();
+            if (tagIndex < 0 || tagIndex >= tagTable.length) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_TAG_INDEX, tagIndex));
+            }
+            tags.add(tagTable[tagIndex]);
+        }
+
+        // Validated, as the checksum only detects accidental corruption, not a file edited by hand
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+        if (!Address.isValidAddress(address)) {
+            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+        }
+        return new Person(Name.ofValidated(name), Phone.ofValidated(phone), Email.ofValidated(email),
+                Address.ofValidated(address), tags);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = readCount(in);
+        if (length > MAX_STRING_LENGTH) {
+            throw new IOException("Binary data file is corrupted: string of length " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readCount(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Binary data file is corrupted: negative length " + count);
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,372 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListChange.Edit;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal of changes.
+ *
+ * The snapshot has the same format as the file of {@link JsonAddressBookStorage}. Each save appends only the
+ * persons that changed since the previous save to the journal, one record per line, and the journal is folded
+ * back into the snapshot once it holds {@code compactionThreshold} records. The changes are taken from the edits
+ * that the address book kept since the previous save, so a save takes time proportional to the number of changes
+ * rather than to the size of the address book; only when those edits are not known, as on the first save after the
+ * address book was read, are the persons compared with those last written instead. The journal starts with a record
+ * holding the checksum of the snapshot it applies to, so a journal left behind by an interrupted compaction is
+ * recognised and ignored.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int compactionThreshold;
+
+    // A snapshot of the address book as last written to journaledFilePath, or null if nothing has been read or
+    // written yet
+    private Path journaledFilePath;
+    private ReadOnlyAddressBook journaledAddressBook;
+    private int journalRecordCount;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that compacts its journal once it holds
+     * {@code compactionThreshold} records.
+     */
+    public JournalAddressBookStorage(Path filePath, int compactionThreshold) {
+        requireNonNull(filePath);
+        if (compactionThreshold < 1) {
+            throw new IllegalArgumentException("Compaction threshold must be positive");
+        }
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal that accompanies the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Reads the snapshot and replays the journal on top of it.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        List<Person> persons;
+        int recordCount;
+        CRC32 snapshotChecksum = new CRC32();
+        try {
+            try (InputStream in = new CheckedInputStream(Files.newInputStream(filePath), snapshotChecksum);
+                    JsonParser parser = JsonUtil.createParser(in)) {
+                persons = new ArrayList<>(JsonSerializableAddressBook.readModelType(parser).getPersonList());
+                // The checksum covers the whole file, including anything after the json object
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            recordCount = replayJournal(getJournalFilePath(filePath), snapshotChecksum.getValue(), persons);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (RuntimeException re) {
+            logger.info("Replaying the journal of " + filePath + " produced invalid data: " + re);
+            throw new DataConversionException(re);
+        }
+
+        journaledFilePath = filePath;
+        journaledAddressBook = addressBook.getSnapshot();
+        journalRecordCount = recordCount;
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Appends the changes since the last read or save of {@code filePath} to its journal, or rewrites the snapshot
+     * if there is no such read or save, or if the journal is due for compaction.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(journaledFilePath) || journalRecordCount >= compactionThreshold) {
+            compact(addressBook, filePath);
+            return;
+        }
+
+        Optional<List<Edit>> edits = addressBook.getEditsSince(journaledAddressBook);
+        if (edits.isPresent() && journalRecordCount + edits.get().size() > compactionThreshold) {
+            compact(addressBook, filePath);
+            return;
+        }
+        List<JsonAdaptedJournalRecord> records = edits.isPresent()
+                ? toRecords(edits.get())
+                : diff(journaledAddressBook.getPersonList(), addressBook.getPersonList());
+        if (records.isEmpty()) {
+            journaledAddressBook = addressBook.getSnapshot();
+            return;
+        }
+
+        try {
+            appendToJournal(getJournalFilePath(filePath), records);
+        } catch (IOException ioe) {
+            // The journal may end with a partial record now, so start afresh on the next save
+            journalRecordCount = compactionThreshold;
+            throw ioe;
+        }
+        journaledAddressBook = addressBook.getSnapshot();
+        journalRecordCount += records.size();
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // Every save is forced to disk before it returns, so there is nothing pending
+    }
+
+    /**
+     * Returns the records of {@code edits}, in the same order.
+     */
+    private static List<JsonAdaptedJournalRecord> toRecords(List<Edit> edits) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>(edits.size());
+        for (Edit edit : edits) {
+            List<Person> removed = edit.getRemoved();
+            List<Person> added = edit.getAdded();
+            if (removed.size() == 1 && added.size() == 1) {
+                records.add(JsonAdaptedJournalRecord.edit(edit.getFrom(), added.get(0)));
+                continue;
+            }
+            if (!removed.isEmpty()) {
+                records.add(JsonAdaptedJournalRecord.delete(edit.getFrom(), removed.size()));
+            }
+            if (!added.isEmpty()) {
+                records.add(JsonAdaptedJournalRecord.add(edit.getFrom(), added));
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Returns the records that turn {@code oldPersons} into {@code newPersons}.
+     * Only the single run of persons between the longest common prefix and the longest common suffix is recorded,
+     * which covers the add, edit and delete of a single person exactly.
+     */
+    private static List<JsonAdaptedJournalRecord> diff(List<Person> oldPersons, List<Person> newPersons) {
+        int oldSize = oldPersons.size();
+        int newSize = newPersons.size();
+        int minSize = Math.min(oldSize, newSize);
+
+        int prefix = 0;
+        while (prefix < minSize && oldPersons.get(prefix).equals(newPersons.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < minSize - prefix
+                && oldPersons.get(oldSize - 1 - suffix).equals(newPersons.get(newSize - 1 - suffix))) {
+            suffix++;
+        }
+
+        int removedCount = oldSize - prefix - suffix;
+        int addedCount = newSize - prefix - suffix;
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        if (removedCount == 1 && addedCount == 1) {
+            records.add(JsonAdaptedJournalRecord.edit(prefix, newPersons.get(prefix)));
+            return records;
+        }
+        if (removedCount > 0) {
+            records.add(JsonAdaptedJournalRecord.delete(prefix, removedCount));
+        }
+        if (addedCount > 0) {
+            records.add(JsonAdaptedJournalRecord.add(prefix, newPersons.subList(prefix, prefix + addedCount)));
+        }
+        return records;
+    }
+
+    /**
+     * Appends {@code records} to the journal at {@code journalFilePath}, forcing them to disk together.
+     */
+    private static void appendToJournal(Path journalFilePath, List<JsonAdaptedJournalRecord> records)
+            throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+
+        try (FileChannel journal = FileChannel.open(journalFilePath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            writeFully(journal, lines.toString().getBytes(StandardCharsets.UTF_8));
+            journal.force(false);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} as the snapshot at {@code filePath} and starts an empty journal for it.
+     * Both files are written to a temporary file first and then moved into place.
+     */
+    private void compact(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+
+        CRC32 snapshotChecksum = new CRC32();
+        Path tempFile = getTempFilePath(filePath);
+        try (FileChannel channel = openForOverwrite(tempFile);
+                JsonGenerator generator = JsonUtil.createGenerator(
+                        new CheckedOutputStream(Channels.newOutputStream(channel), snapshotChecksum))) {
+            JsonSerializableAddressBook.writeModelType(addressBook, generator);
+            generator.flush();
+            channel.force(false);
+        }
+        Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        tempFile = getTempFilePath(journalFilePath);
+        try (FileChannel channel = openForOverwrite(tempFile)) {
+            JsonAdaptedJournalRecord base = JsonAdaptedJournalRecord.base(snapshotChecksum.getValue());
+            writeFully(channel, (JsonUtil.toCompactJsonString(base) + "\n").getBytes(StandardCharsets.UTF_8));
+            channel.force(false);
+        }
+        Files.move(tempFile, journalFilePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        journaledFilePath = filePath;
+        journaledAddressBook = addressBook.getSnapshot();
+        journalRecordCount = 0;
+    }
+
+    private static Path getTempFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + ".tmp");
+    }
+
+    private static FileChannel openForOverwrite(Path file) throws IOException {
+        return FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private static void writeFully(FileChannel channel, byte[] content) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Applies the records of the journal at {@code journalFilePath} to {@code persons}.
+     * A journal that is missing or that belongs to a snapshot other than the one with {@code snapshotChecksum}
+     * is ignored, as is an incomplete last line left behind by an interrupted append.
+     *
+     * @return the number of records applied, or {@code compactionThreshold} if the journal cannot be appended to
+     *     as it is, so that the next save compacts it.
+     */
+    private int replayJournal(Path journalFilePath, long snapshotChecksum, List<Person> persons)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalFilePath)) {
+            return compactionThreshold;
+        }
+
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        if (lines.isEmpty()) {
+            return compactionThreshold;
+        }
+
+        JsonAdaptedJournalRecord base = JsonUtil.fromJsonString(lines.get(0), JsonAdaptedJournalRecord.class);
+        if (!base.isBase() || base.getChecksum() != snapshotChecksum) {
+            logger.info("Journal " + journalFilePath + " does not belong to its snapshot and is ignored");
+            return compactionThreshold;
+        }
+
+        int recordCount = 0;
+        for (int i = 1; i < lines.size(); i++) {
+            JsonAdaptedJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalRecord.class);
+            } catch (IOException ioe) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last record of journal " + journalFilePath);
+                    return compactionThreshold;
+                }
+                throw ioe;
+            }
+            record.applyTo(persons);
+            recordCount++;
+        }
+        return recordCount;
+    }
+
+}
@@ -0,0 +1,137 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single change recorded in the journal of a {@link JournalAddressBookStorage}.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String TYPE_BASE = "base";
+    public static final String TYPE_ADD = "add";
+    public static final String TYPE_EDIT = "edit";
+    public static final String TYPE_DELETE = "delete";
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record is invalid: %s";
+
+    private final String type;
+    private final long checksum;
+    private final int index;
+    private final int count;
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("type") String type, @JsonProperty("checksum") long checksum,
+            @JsonProperty("index") int index, @JsonProperty("count") int count,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        this.type = type;
+        this.checksum = checksum;
+        this.index = index;
+        this.count = count;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+
+    /**
+     * Returns the record that starts a journal, identifying the snapshot with checksum {@code checksum} as its base.
+     */
+    public static JsonAdaptedJournalRecord base(long checksum) {
+        return new JsonAdaptedJournalRecord(TYPE_BASE, checksum, 0, 0, null);
+    }
+
+    /**
+     * Returns a record of {@code added} being inserted at {@code index}.
+     */
+    public static JsonAdaptedJournalRecord add(int index, List<Person> added) {
+        return new JsonAdaptedJournalRecord(TYPE_ADD, 0, index, added.size(), toAdapted(added));
+    }
+
+    /**
+     * Returns a record of the person at {@code index} being replaced by {@code edited}.
+     */
+    public static JsonAdaptedJournalRecord edit(int index, Person edited) {
+        return new JsonAdaptedJournalRecord(TYPE_EDIT, 0, index, 1, toAdapted(List.of(edited)));
+    }
+
+    /**
+     * Returns a record of {@code count} persons being removed starting from {@code index}.
+     */
+    public static JsonAdaptedJournalRecord delete(int index, int count) {
+        return new JsonAdaptedJournalRecord(TYPE_DELETE, 0, index, count, null);
+    }
+
+    private static List<JsonAdaptedPerson> toAdapted(List<Person> persons) {
+        return persons.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList());
+    }
+
+    public boolean isBase() {
+        return TYPE_BASE.equals(type);
+    }
+
+    public long getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Applies the change recorded by this record to {@code persons}.
+     *
+     * @throws IllegalValueException if the record is malformed, does not fit {@code persons}
+     *     or contains a person with invalid fields.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "missing type"));
+        }
+
+        switch (type) {
+        case TYPE_BASE:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "unexpected base record"));
+        case TYPE_ADD:
+            checkRange(index, 0, persons.size());
+            persons.addAll(index, toModelType());
+            break;
+        case TYPE_EDIT:
+            checkRange(index, 0, persons.size() - 1);
+            List<Person> edited = toModelType();
+            if (edited.size() != 1) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "edit of " + edited.size()));
+            }
+            persons.set(index, edited.get(0));
+            break;
+        case TYPE_DELETE:
+            checkRange(index, 0, persons.size());
+            checkRange(count, 1, persons.size() - index);
+            persons.subList(index, index + count).clear();
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "unknown type " + type));
+        }
+    }
+
+    private List<Person> toModelType() throws IllegalValueException {
+        List<Person> modelPersons = new ArrayList<>();
+        for (JsonAdaptedPerson person : persons) {
+            modelPersons.add(person.toModelType());
+        }
+        return modelPersons;
+    }
+
+    private static void checkRange(int value, int min, int max) throws IllegalValueException {
+        if (value < min || value > max) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, value + " is out of range"));
+        }
+    }
+
+}
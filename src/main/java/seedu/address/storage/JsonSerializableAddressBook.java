@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,6 +8,10 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
@@ -21,6 +26,11 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    private static final String PERSONS_FIELD = "persons";
+
+    // Number of persons read from a stream before they are converted together
+    private static final int CONVERSION_BATCH_SIZE = 4096;
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
@@ -47,14 +57,114 @@ class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
+        addPersons(persons, addressBook);
+        return addressBook;
+    }
+
+    /**
+     * Reads an address book from {@code parser} into the model's {@code AddressBook} object.
+     * Persons are converted in parallel batches as they are parsed, so the whole file is never held in memory in its
+     * Jackson-friendly form. Fields other than the persons list are skipped.
+     *
+     * @throws IOException if the data is not valid json or not in the expected structure.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readModelType(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected the address book to be a json object");
+        }
+
+        AddressBook addressBook = new AddressBook();
+        List<JsonAdaptedPerson> batch = new ArrayList<>(CONVERSION_BATCH_SIZE);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!PERSONS_FIELD.equals(fieldName) || value != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                if (token == null) {
+                    throw new JsonParseException(parser, "Unexpected end of the persons list");
+                }
+                batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+                if (batch.size() == CONVERSION_BATCH_SIZE) {
+                    addPersons(batch, addressBook);
+                    batch.clear();
+                }
+            }
+        }
+        addPersons(batch, addressBook);
+        return addressBook;
+    }
+
+    /**
+     * Converts {@code adaptedPersons} into the model's {@code Person} objects in parallel, then adds them to
+     * {@code addressBook} in order.
+     *
+     * @throws IllegalValueException for the first person in order that violates the data constraints or is the same
+     *     person as one before it, just as converting and adding the persons one at a time would.
+     */
+    private static void addPersons(List<JsonAdaptedPerson> adaptedPersons, AddressBook addressBook)
+            throws IllegalValueException {
+        List<Conversion> conversions = adaptedPersons.parallelStream()
+                .map(Conversion::of)
+                .collect(Collectors.toList());
+
+        for (Conversion conversion : conversions) {
+            Person person = conversion.getPerson();
             if (addressBook.hasPerson(person)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
             addressBook.addPerson(person);
         }
-        return addressBook;
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the same structure as this class, one person at a time.
+     */
+    public static void writeModelType(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(PERSONS_FIELD);
+        for (Person person : source.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * The result of converting a {@code JsonAdaptedPerson}: either the person or the reason it is invalid.
+     */
+    private static class Conversion {
+        private final Person person;
+        private final IllegalValueException error;
+
+        private Conversion(Person person, IllegalValueException error) {
+            this.person = person;
+            this.error = error;
+        }
+
+        static Conversion of(JsonAdaptedPerson adaptedPerson) {
+            try {
+                return new Conversion(adaptedPerson.toModelType(), null);
+            } catch (IllegalValueException ive) {
+                return new Conversion(null, ive);
+            }
+        }
+
+        /**
+         * Returns the converted person.
+         *
+         * @throws IllegalValueException if the person violated the data constraints.
+         */
+        Person getPerson() throws IllegalValueException {
+            if (error != null) {
+                throw error;
+            }
+            return person;
+        }
     }
 
 }
@@ -0,0 +1,190 @@
+package seedu.address.storage;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An unmodifiable address book backed by a buffer holding a file in the format of {@link BinaryAddressBookStorage}.
+ *
+ * Opening the address book only checks the structure and checksum of the buffer and records where each person starts
+ * in it. A person is decoded the first time it is read from {@link #getPersonList()}, and the most recently read
+ * persons are kept in a bounded cache. Their fields are not validated and duplicate persons are not rejected, as the
+ * persons are only shown until the address book is read in full by {@link BinaryAddressBookStorage}, which does both.
+ */
+class MappedAddressBook implements ReadOnlyAddressBook {
+
+    public static final int DEFAULT_CACHE_CAPACITY = 4096;
+
+    private final ByteBuffer buffer;
+    private final Tag[] tagTable;
+    private final int[] personOffsets;
+    private final Map<Integer, Person> cache;
+    private final ObservableList<Person> personList = new MappedPersonList();
+
+    private MappedAddressBook(ByteBuffer buffer, Tag[] tagTable, int[] personOffsets, int cacheCapacity) {
+        this.buffer = buffer;
+        this.tagTable = tagTable;
+        this.personOffsets = personOffsets;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Person> eldest) {
+                return size() > cacheCapacity;
+            }
+        };
+    }
+
+    /**
+     * Opens the binary address book held in {@code buffer}, keeping at most {@code cacheCapacity} decoded persons.
+     *
+     * @throws IllegalValueException if the buffer does not hold a complete binary address book.
+     */
+    public static MappedAddressBook open(ByteBuffer buffer, int cacheCapacity) throws IllegalValueException {
+        ByteBuffer in = buffer.duplicate();
+        try {
+            if (in.getInt() != BinaryAddressBookStorage.MAGIC_NUMBER) {
+                throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_NOT_BINARY_FILE);
+            }
+            int version = in.getInt();
+            if (version != BinaryAddressBookStorage.FORMAT_VERSION) {
+                throw new IllegalValueException(
+                        String.format(BinaryAddressBookStorage.MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            Tag[] tagTable = new Tag[readCount(in)];
+            for (int i = 0; i < tagTable.length; i++) {
+                tagTable[i] = Tag.of(readString(in));
+            }
+
+            int[] personOffsets = new int[readCount(in)];
+            for (int i = 0; i < personOffsets.length; i++) {
+                personOffsets[i] = in.position();
+                skipPerson(in, tagTable.length);
+            }
+
+            int contentLength = in.position();
+            long expectedChecksum = in.getLong();
+            CRC32 checksum = new CRC32();
+            checksum.update(buffer.duplicate().position(0).limit(contentLength));
+            if (checksum.getValue() != expectedChecksum) {
+                throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CHECKSUM_MISMATCH);
+            }
+
+            return new MappedAddressBook(buffer, tagTable, personOffsets, cacheCapacity);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalValueException("Binary data file is truncated", e);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(iae.getMessage(), iae);
+        }
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return personList;
+    }
+
+    @Override
+    public long getVersion() {
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return personOffsets.length + " persons";
+    }
+
+    /**
+     * Returns the person at {@code index}, decoding it unless it is in the cache.
+     */
+    private synchronized Person getPerson(int index) {
+        Person person = cache.get(index);
+        if (person == null) {
+            person = decodePerson(index);
+            cache.put(index, person);
+        }
+        return person;
+    }
+
+    private Person decodePerson(int index) {
+        ByteBuffer in = buffer.duplicate();
+        in.position(personOffsets[index]);
+
+        Name name = Name.ofValidated(readString(in));
+        Phone phone = Phone.ofValidated(readString(in));
+        Email email = Email.ofValidated(readString(in));
+        Address address = Address.ofValidated(readString(in));
+        int tagCount = in.getInt();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(tagTable[in.getInt()]);
+        }
+        return new Person(name, phone, email, address, tags);
+    }
+
+    /**
+     * Moves {@code in} past the person at its position, checking that the person can be decoded.
+     */
+    private static void skipPerson(ByteBuffer in, int tagTableSize) {
+        for (int field = 0; field < 4; field++) {
+            int length = readCount(in);
+            in.position(in.position() + length);
+        }
+        int tagCount = readCount(in);
+        for (int i = 0; i < tagCount; i++) {
+            int tagIndex = in.getInt();
+            if (tagIndex < 0 || tagIndex >= tagTableSize) {
+                throw new IllegalArgumentException(
+                        String.format(BinaryAddressBookStorage.MESSAGE_INVALID_TAG_INDEX, tagIndex));
+            }
+        }
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[readCount(in)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readCount(ByteBuffer in) {
+        int count = in.getInt();
+        if (count < 0 || count > in.remaining()) {
+            throw new IndexOutOfBoundsException("Length " + count + " runs past the end of the file");
+        }
+        return count;
+    }
+
+    /**
+     * The persons of this address book, decoded as they are read.
+     */
+    private class MappedPersonList extends ObservableListBase<Person> {
+        @Override
+        public Person get(int index) {
+            if (index < 0 || index >= personOffsets.length) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + personOffsets.length);
+            }
+            return getPerson(index);
+        }
+
+        @Override
+        public int size() {
+            return personOffsets.length;
+        }
+    }
+
+}
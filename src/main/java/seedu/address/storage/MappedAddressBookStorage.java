@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in the format of {@link BinaryAddressBookStorage}, which can also read the
+ * data lazily: {@link #readAddressBookLazily()} memory-maps the file and only indexes where each person starts in it,
+ * so that the persons can be shown before the address book is read in full.
+ * Address books are read in full and saved in the same way as {@link BinaryAddressBookStorage}.
+ *
+ * A lazily read file is mapped through a temporary copy of it. A mapping is released only once the address book read
+ * from it is no longer referenced, and Windows does not allow a mapped file to be replaced, so mapping the data file
+ * itself could make saves fail until then.
+ */
+public class MappedAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(MappedAddressBookStorage.class);
+
+    private final BinaryAddressBookStorage binaryStorage;
+    private final int cacheCapacity;
+
+    public MappedAddressBookStorage(Path filePath) {
+        this(filePath, MappedAddressBook.DEFAULT_CACHE_CAPACITY);
+    }
+
+    /**
+     * Creates a {@code MappedAddressBookStorage} whose lazily read address books keep at most {@code cacheCapacity}
+     * decoded persons.
+     */
+    public MappedAddressBookStorage(Path filePath, int cacheCapacity) {
+        if (cacheCapacity < 1) {
+            throw new IllegalArgumentException("Cache capacity must be positive");
+        }
+        this.binaryStorage = new BinaryAddressBookStorage(filePath);
+        this.cacheCapacity = cacheCapacity;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return binaryStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        return binaryStorage.readAddressBook(filePath);
+    }
+
+    /**
+     * Returns the address book in the data file, whose persons are decoded only as they are read from it.
+     * Its persons are not validated, and it may hold duplicate persons, so it is only to be shown until the address
+     * book is read in full by {@link #readAddressBook()}, which rejects such data files.
+     *   Returns {@code Optional.empty()} if the data file is not found.
+     *
+     * @throws DataConversionException if the data file is not a complete binary address book.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBookLazily() throws DataConversionException {
+        Path filePath = getAddressBookFilePath();
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        Path mappedFilePath = null;
+        try {
+            mappedFilePath = Files.createTempFile("addressbook", ".bin");
+            Files.copy(filePath, mappedFilePath, StandardCopyOption.REPLACE_EXISTING);
+            return Optional.of(MappedAddressBook.open(map(mappedFilePath), cacheCapacity));
+        } catch (IOException ioe) {
+            logger.warning("Error mapping binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } finally {
+            // Where a mapped file can be deleted, the mapping outlives the copy, so that no copy is left behind
+            if (mappedFilePath != null) {
+                deleteMappedFile(mappedFilePath);
+            }
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        binaryStorage.saveAddressBook(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        binaryStorage.saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // Saves are written synchronously, so there is nothing pending
+    }
+
+    private static MappedByteBuffer map(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Binary data file " + filePath + " is too large to be mapped");
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Deletes the mapped copy at {@code mappedFilePath}, or on exit if it cannot be deleted while it is mapped.
+     */
+    private static void deleteMappedFile(Path mappedFilePath) {
+        try {
+            Files.deleteIfExists(mappedFilePath);
+        } catch (IOException ioe) {
+            mappedFilePath.toFile().deleteOnExit();
+        }
+    }
+
+}
@@ -29,4 +29,10 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    @Override
+    boolean hasFailedWrite();
+
+    @Override
+    void flushAddressBook() throws IOException;
+
 }
@@ -76,4 +76,15 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public boolean hasFailedWrite() {
+        return addressBookStorage.hasFailedWrite();
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        logger.fine("Waiting for pending writes to data file: " + addressBookStorage.getAddressBookFilePath());
+        addressBookStorage.flushAddressBook();
+    }
+
 }
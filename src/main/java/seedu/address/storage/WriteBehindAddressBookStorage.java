@@ -0,0 +1,168 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Wraps an {@code AddressBookStorage} so that saves are written to it on a background thread.
+ * Saves to the same file that have not been written yet are coalesced so that only the latest one is written,
+ * and saves of an address book whose version is unchanged since it was last saved to the same file are skipped.
+ * Neither the snapshot taken of the address book nor the check for changes depends on its size.
+ * A failure in a background write is recorded until the address book is saved to the same file again, which retries
+ * it, and is reported by the next call to flush.
+ */
+public class WriteBehindAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookStorage.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "AddressBook writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // All fields below are guarded by this object's lock
+    private final Map<Path, ReadOnlyAddressBook> pendingSaves = new LinkedHashMap<>();
+    // The address book last saved to each file, and the snapshot of it that was saved
+    private final Map<Path, ReadOnlyAddressBook> lastSavedAddressBooks = new HashMap<>();
+    private final Map<Path, ReadOnlyAddressBook> lastSaves = new HashMap<>();
+    // The files whose last save failed to be written
+    private final Set<Path> failedWrites = new HashSet<>();
+    private IOException writeFailure;
+
+    /**
+     * Creates a {@code WriteBehindAddressBookStorage} that writes saves to {@code addressBookStorage}.
+     */
+    public WriteBehindAddressBookStorage(AddressBookStorage addressBookStorage) {
+        requireNonNull(addressBookStorage);
+        this.addressBookStorage = addressBookStorage;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return addressBookStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(addressBookStorage.getAddressBookFilePath());
+    }
+
+    /**
+     * Waits for pending saves to be written before reading, so that the data read is never older than the data saved.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        flushAddressBook();
+        return addressBookStorage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+    }
+
+    /**
+     * Queues a snapshot of {@code addressBook} to be written to {@code filePath} and returns without waiting for it.
+     * A failure to write it is not reported by this method, but by {@link #hasFailedWrite()} and
+     * {@link #flushAddressBook()}.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        // Taken on the caller's thread as the model may be modified while the write is in progress
+        ReadOnlyAddressBook snapshot = addressBook.getSnapshot();
+
+        synchronized (this) {
+            ReadOnlyAddressBook lastSave = lastSaves.get(filePath);
+            if (lastSavedAddressBooks.get(filePath) == addressBook && lastSave.getVersion() == snapshot.getVersion()) {
+                return;
+            }
+            lastSavedAddressBooks.put(filePath, addressBook);
+            lastSaves.put(filePath, snapshot);
+            failedWrites.remove(filePath);
+
+            boolean isWritePending = !pendingSaves.isEmpty();
+            pendingSaves.put(filePath, snapshot);
+            if (!isWritePending) {
+                writer.execute(this::writePendingSaves);
+            }
+        }
+    }
+
+    @Override
+    public synchronized boolean hasFailedWrite() {
+        return !failedWrites.isEmpty();
+    }
+
+    /**
+     * Blocks until every save queued so far has been written.
+     *
+     * @throws IOException if any of the queued saves failed to be written.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        try {
+            writer.submit(() -> {}).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for pending saves", ie);
+        } catch (ExecutionException ee) {
+            throw new IOException(ee.getCause());
+        }
+        throwIfWriteFailed();
+    }
+
+    private void writePendingSaves() {
+        Map<Path, ReadOnlyAddressBook> toWrite;
+        synchronized (this) {
+            toWrite = new LinkedHashMap<>(pendingSaves);
+            pendingSaves.clear();
+        }
+
+        for (Map.Entry<Path, ReadOnlyAddressBook> entry : toWrite.entrySet()) {
+            try {
+                addressBookStorage.saveAddressBook(entry.getValue(), entry.getKey());
+            } catch (IOException ioe) {
+                logger.warning("Failed to write data file " + entry.getKey() + ": " + ioe);
+                synchronized (this) {
+                    writeFailure = ioe;
+                    // Unless a later save supersedes it, forget the failed save so that saving the same data again is
+                    // retried
+                    if (lastSaves.remove(entry.getKey(), entry.getValue())) {
+                        lastSavedAddressBooks.remove(entry.getKey());
+                        failedWrites.add(entry.getKey());
+                    }
+                }
+            }
+        }
+    }
+
+    private synchronized void throwIfWriteFailed() throws IOException {
+        if (writeFailure != null) {
+            IOException failure = writeFailure;
+            writeFailure = null;
+            throw failure;
+        }
+    }
+
+}
@@ -1,12 +1,11 @@
 package seedu.address.ui;
 
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
-import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
+import javafx.util.Duration;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -14,21 +13,33 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String BUSY_STYLE_CLASS = "busy";
     private static final String FXML = "CommandBox.fxml";
 
+    /** How long typing must pause before the command being typed is previewed. */
+    private static final Duration PREVIEW_DELAY = Duration.millis(150);
+
     private final CommandExecutor commandExecutor;
+    private final PauseTransition previewTimer = new PauseTransition(PREVIEW_DELAY);
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CommandPreviewer}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandPreviewer commandPreviewer) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        previewTimer.setOnFinished(unused -> commandPreviewer.preview(commandTextField.getText()));
+        // calls #setStyleToDefault() whenever there is a change to the text of the command box, and previews the
+        // command once the text has stopped changing for a while.
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> {
+            setStyleToDefault();
+            if (!isBusy()) {
+                previewTimer.playFromStart();
+            }
+        });
     }
 
     /**
@@ -36,11 +47,35 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleCommandEntered() {
-        try {
-            commandExecutor.execute(commandTextField.getText());
+        if (isBusy()) {
+            return;
+        }
+
+        previewTimer.stop();
+        setBusy(true);
+        commandExecutor.execute(commandTextField.getText(), () -> {
             commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
+            setBusy(false);
+        }, () -> {
+            setBusy(false);
             setStyleToIndicateCommandFailure();
+        });
+    }
+
+    private boolean isBusy() {
+        return commandTextField.getStyleClass().contains(BUSY_STYLE_CLASS);
+    }
+
+    /**
+     * Sets whether the command box shows that a command is executing.
+     * The command text cannot be edited while it is executing.
+     */
+    private void setBusy(boolean isBusy) {
+        commandTextField.setEditable(!isBusy);
+        if (isBusy) {
+            commandTextField.getStyleClass().add(BUSY_STYLE_CLASS);
+        } else {
+            commandTextField.getStyleClass().remove(BUSY_STYLE_CLASS);
         }
     }
 
@@ -70,11 +105,26 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Executes the command without waiting for it, then runs {@code onSuccess} or {@code onFailure}
+         * on the JavaFX application thread.
+         *
+         * @see seedu.address.logic.Logic#executeInBackground(String, java.util.function.Consumer,
+         *     java.util.function.Consumer)
+         */
+        void execute(String commandText, Runnable onSuccess, Runnable onFailure);
+    }
+
+    /**
+     * Represents a function that can preview the command being typed.
+     */
+    @FunctionalInterface
+    public interface CommandPreviewer {
+        /**
+         * Previews the command without waiting for it.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#previewInBackground(String, java.util.function.Consumer)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        void preview(String commandText);
     }
 
 }
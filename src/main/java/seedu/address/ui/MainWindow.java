@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.event.ActionEvent;
@@ -13,9 +14,6 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
-import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -119,7 +117,7 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, this::previewCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -168,13 +166,13 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command in the background, displays its result, and then runs {@code onSuccess} or
+     * {@code onFailure}.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#executeInBackground(String, Consumer, Consumer)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private void executeCommand(String commandText, Runnable onSuccess, Runnable onFailure) {
+        logic.executeInBackground(commandText, commandResult -> {
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -186,11 +184,21 @@ public class MainWindow extends UiPart<Stage> {
                 handleExit();
             }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
+            onSuccess.run();
+        }, e -> {
             logger.info("Invalid command: " + commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+            onFailure.run();
+        });
+    }
+
+    /**
+     * Previews the command being typed in the background, and displays its result.
+     *
+     * @see seedu.address.logic.Logic#previewInBackground(String, Consumer)
+     */
+    private void previewCommand(String commandText) {
+        logic.previewInBackground(commandText,
+                commandResult -> resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser()));
     }
 }
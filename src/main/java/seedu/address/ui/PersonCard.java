@@ -1,60 +1,128 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
-import javafx.fxml.FXML;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
+import javafx.scene.layout.ColumnConstraints;
 import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
 import seedu.address.model.person.Person;
 
 /**
  * An UI component that displays information of a {@code Person}.
+ * A card can be reused to display another person, so that its scene graph is built only once.
+ *
+ * Unlike the other UI components, the scene graph of a card is built in code rather than loaded from a FXML file,
+ * as a card is created for every visible cell of the person list, and parsing FXML is most of the cost of creating
+ * one. The nodes have the same ids and style classes that the stylesheets expect of a card.
  */
 public class PersonCard extends UiPart<Region> {
 
-    private static final String FXML = "PersonListCard.fxml";
+    private static final String BIG_LABEL_STYLE_CLASS = "cell_big_label";
+    private static final String SMALL_LABEL_STYLE_CLASS = "cell_small_label";
+
+    private Person person;
+
+    private final Label name = createLabel("name", BIG_LABEL_STYLE_CLASS);
+    private final Label id = createLabel("id", BIG_LABEL_STYLE_CLASS);
+    private final Label phone = createLabel("phone", SMALL_LABEL_STYLE_CLASS);
+    private final Label address = createLabel("address", SMALL_LABEL_STYLE_CLASS);
+    private final Label email = createLabel("email", SMALL_LABEL_STYLE_CLASS);
+    private final FlowPane tags = new FlowPane();
 
     /**
-     * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
-     * As a consequence, UI elements' variable names cannot be set to such keywords
-     * or an exception will be thrown by JavaFX during runtime.
-     *
-     * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
+     * Creates a {@code PersonCard} that displays no person until {@link #setPerson(Person, int)} is called.
      */
-
-    public final Person person;
-
-    @FXML
-    private HBox cardPane;
-    @FXML
-    private Label name;
-    @FXML
-    private Label id;
-    @FXML
-    private Label phone;
-    @FXML
-    private Label address;
-    @FXML
-    private Label email;
-    @FXML
-    private FlowPane tags;
+    public PersonCard() {
+        super(new HBox());
+        buildSceneGraph((HBox) getRoot());
+    }
 
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    /**
+     * Displays the given {@code Person} and index, replacing what this card displayed before.
+     * The labels of the card, including those of the tags, are reused rather than created again.
+     */
+    public void setPerson(Person person, int displayedIndex) {
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+
+        List<String> tagNames = person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList());
+        ObservableList<Node> tagLabels = tags.getChildren();
+        for (int i = 0; i < tagNames.size(); i++) {
+            if (i < tagLabels.size()) {
+                ((Label) tagLabels.get(i)).setText(tagNames.get(i));
+            } else {
+                tagLabels.add(new Label(tagNames.get(i)));
+            }
+        }
+        if (tagLabels.size() > tagNames.size()) {
+            tagLabels.remove(tagNames.size(), tagLabels.size());
+        }
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Builds the scene graph of this card under {@code cardPane}.
+     */
+    private void buildSceneGraph(HBox cardPane) {
+        cardPane.setId("cardPane");
+        // Ensures that the index is never truncated
+        id.setMinWidth(Region.USE_PREF_SIZE);
+        tags.setId("tags");
+
+        HBox nameBox = new HBox(5, id, name);
+        nameBox.setAlignment(Pos.CENTER_LEFT);
+
+        VBox details = new VBox(nameBox, tags, phone, address, email);
+        details.setAlignment(Pos.CENTER_LEFT);
+        details.setMinHeight(105);
+        details.setPadding(new Insets(5, 5, 5, 15));
+
+        GridPane grid = new GridPane();
+        ColumnConstraints column = new ColumnConstraints();
+        column.setHgrow(Priority.SOMETIMES);
+        column.setMinWidth(10);
+        column.setPrefWidth(150);
+        grid.getColumnConstraints().add(column);
+        grid.add(details, 0, 0);
+
+        HBox.setHgrow(grid, Priority.ALWAYS);
+        cardPane.getChildren().add(grid);
+    }
+
+    private static Label createLabel(String id, String styleClass) {
+        Label label = new Label();
+        label.setId(id);
+        label.getStyleClass().add(styleClass);
+        return label;
     }
 
     @Override
@@ -72,6 +140,6 @@ public class PersonCard extends UiPart<Region> {
         // state check
         PersonCard card = (PersonCard) other;
         return id.getText().equals(card.id.getText())
-                && person.equals(card.person);
+                && Objects.equals(person, card.person);
     }
 }
@@ -17,7 +17,7 @@ public abstract class UiPart<T> {
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
-    private final FXMLLoader fxmlLoader = new FXMLLoader();
+    private T root;
 
     /**
      * Constructs a UiPart with the specified FXML file URL.
@@ -51,11 +51,19 @@ public abstract class UiPart<T> {
         this(getFxmlFileUrl(fxmlFileName), root);
     }
 
+    /**
+     * Constructs a UiPart whose scene graph is built in code, with {@code root} as its root object.
+     * This skips parsing a FXML file, for UiParts that are created many times.
+     */
+    protected UiPart(T root) {
+        this.root = requireNonNull(root);
+    }
+
     /**
      * Returns the root object of the scene graph of this UiPart.
      */
     public T getRoot() {
-        return fxmlLoader.getRoot();
+        return root;
     }
 
     /**
@@ -65,6 +73,7 @@ public abstract class UiPart<T> {
      */
     private void loadFxmlFile(URL location, T root) {
         requireNonNull(location);
+        FXMLLoader fxmlLoader = new FXMLLoader();
         fxmlLoader.setLocation(location);
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
@@ -73,6 +82,7 @@ public abstract class UiPart<T> {
         } catch (IOException e) {
             throw new AssertionError(e);
         }
+        this.root = fxmlLoader.getRoot();
     }
 
     /**
@@ -0,0 +1,46 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+public class AddressBookFormatTest {
+
+    @Test
+    public void toFilePath_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> AddressBookFormat.BINARY.toFilePath(null));
+    }
+
+    @Test
+    public void toFilePath_extensionOfFormat_returnsSamePath() {
+        Path filePath = Paths.get("data", "addressbook.json");
+        assertEquals(filePath, AddressBookFormat.JSON.toFilePath(filePath));
+        assertEquals(filePath, AddressBookFormat.JOURNAL.toFilePath(filePath));
+    }
+
+    @Test
+    public void toFilePath_otherExtension_extensionReplaced() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                AddressBookFormat.BINARY.toFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "book.bin"), AddressBookFormat.BINARY.toFilePath(Paths.get("data", "book.txt")));
+        assertEquals(Paths.get("data", "book.bin"), AddressBookFormat.MAPPED.toFilePath(Paths.get("data", "book.txt")));
+    }
+
+    @Test
+    public void toFilePath_jsonFormats_returnsSamePath() {
+        Path filePath = Paths.get("data", "book.txt");
+        assertEquals(filePath, AddressBookFormat.JSON.toFilePath(filePath));
+        assertEquals(filePath, AddressBookFormat.JOURNAL.toFilePath(filePath));
+    }
+
+    @Test
+    public void toFilePath_noExtension_extensionAdded() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                AddressBookFormat.BINARY.toFilePath(Paths.get("data", "addressbook")));
+        assertEquals(Paths.get(".addressbook.bin"), AddressBookFormat.BINARY.toFilePath(Paths.get(".addressbook")));
+    }
+}
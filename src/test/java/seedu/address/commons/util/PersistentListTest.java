@@ -0,0 +1,114 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.of(null));
+    }
+
+    @Test
+    public void of_elements_keepsOrder() {
+        List<Integer> elements = Arrays.asList(3, 1, 4, 1, 5, 9, 2, 6);
+        assertEquals(elements, PersistentList.of(elements));
+        assertTrue(PersistentList.of(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void of_persistentList_returnsSameList() {
+        PersistentList<Integer> list = PersistentList.of(Arrays.asList(1, 2));
+        assertSame(list, PersistentList.of(list));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<Integer> list = PersistentList.of(Arrays.asList(1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.empty().get(0));
+    }
+
+    @Test
+    public void modify_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<Integer> list = PersistentList.of(Arrays.asList(1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.replacing(2, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.inserting(3, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removing(2));
+    }
+
+    @Test
+    public void modify_anyMutator_throwsUnsupportedOperationException() {
+        PersistentList<Integer> list = PersistentList.of(Arrays.asList(1, 2));
+        assertThrows(UnsupportedOperationException.class, () -> list.add(3));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, 3));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+    }
+
+    @Test
+    public void modifiedCopies_randomEdits_matchArrayListAndLeaveOriginalsUnchanged() {
+        Random random = new Random(0);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            expected.add(-i);
+        }
+        PersistentList<Integer> list = PersistentList.of(expected);
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                list = list.inserting(index, i);
+                expected.add(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                list = list.replacing(index, i);
+                expected.set(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                list = list.removing(index);
+                expected.remove(index);
+            }
+            if (i % 100 == 0) {
+                versions.add(list);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(expected, list);
+        assertEquals(expectedVersions, versions);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void removing_allElements_returnsEmptyList() {
+        PersistentList<Integer> list = PersistentList.of(Arrays.asList(1, 2, 3));
+        assertSame(PersistentList.empty(), list.removing(1).removing(0).removing(0));
+    }
+
+    @Test
+    public void iterator_pastLastElement_throwsNoSuchElementException() {
+        Iterator<Integer> iterator = PersistentList.of(Arrays.asList(1, 2)).iterator();
+        assertEquals(Integer.valueOf(1), iterator.next());
+        assertEquals(Integer.valueOf(2), iterator.next());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,51 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    @Test
+    public void containsWordIgnoreCase_otherWhitespace_treatedAsSpaces() {
+        assertTrue(StringUtil.containsWordIgnoreCase("aaa\tbBb\nccc", "BBB"));
+        assertTrue(StringUtil.containsWordIgnoreCase("aaa\r\n", "\taaa "));
+        assertTrue(StringUtil.containsWordIgnoreCase("aaa\tbbb", "aaa\u0001")); // Trimmed like String#trim
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
+            -> StringUtil.containsWordIgnoreCase("aaa\tbbb", "aaa\tbbb"));
+    }
+
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_invalidInputs_throwsException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "abc", 1));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("abc", null, 1));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.editDistance("abc", "abc", -1));
+    }
+
+    @Test
+    public void editDistance_validInputs_correctResult() {
+        // Same strings
+        assertEquals(0, StringUtil.editDistance("", "", 0)); // Boundary case
+        assertEquals(0, StringUtil.editDistance("john", "john", 0));
+
+        // One edit of each kind
+        assertEquals(1, StringUtil.editDistance("john", "jon", 2)); // Deletion
+        assertEquals(1, StringUtil.editDistance("jon", "john", 2)); // Insertion
+        assertEquals(1, StringUtil.editDistance("john", "joan", 2)); // Substitution
+        assertEquals(1, StringUtil.editDistance("john", "jonh", 2)); // Adjacent characters swapped
+        assertEquals(1, StringUtil.editDistance("", "a", 1)); // Boundary case
+
+        // Several edits
+        assertEquals(2, StringUtil.editDistance("charlotte", "sharlote", 2));
+        assertEquals(2, StringUtil.editDistance("ab", "bac", 2)); // Swap, then insertion
+        assertEquals(3, StringUtil.editDistance("ca", "abc", 3)); // Swapped characters are not edited again
+
+        // More edits than the maximum distance
+        assertEquals(2, StringUtil.editDistance("john", "jane", 1));
+        assertEquals(1, StringUtil.editDistance("john", "jo", 0)); // Lengths differ too much
+        assertEquals(3, StringUtil.editDistance("abcdef", "badcfe", 2));
+
+        // Case sensitive
+        assertEquals(1, StringUtil.editDistance("John", "john", 1));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -1,6 +1,9 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -9,19 +12,43 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -30,10 +57,13 @@ import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindAddressBookStorage;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonUtil;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+    private static final RuntimeException DUMMY_RUNTIME_EXCEPTION = new IllegalStateException("dummy failure");
 
     @TempDir
     public Path temporaryFolder;
@@ -88,11 +118,247 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_commandWithoutChanges_doesNotSave() throws Exception {
+        // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub, which fails if a save is attempted
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_addressBookNotSaved_savedAfterCommandWithoutChanges() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("notSavedAddressBook.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookFilePath);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        logic = new LogicManager(model, storage, false);
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertEquals(getTypicalAddressBook(), new AddressBook(addressBookStorage.readAddressBook().get()));
+
+        // Once saved, the address book is not saved again until it changes
+        Files.delete(addressBookFilePath);
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertFalse(Files.exists(addressBookFilePath));
+    }
+
+    @Test
+    public void execute_backgroundWriteFailed_savedAgainAfterCommandWithoutChanges() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("failingAddressBook.json");
+        FailingOnceStorageStub failingOnceStub = new FailingOnceStorageStub(addressBookFilePath);
+        WriteBehindAddressBookStorage addressBookStorage = new WriteBehindAddressBookStorage(failingOnceStub);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        logic = new LogicManager(model, storage);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        assertThrows(IOException.class, storage::flushAddressBook);
+        assertTrue(storage.hasFailedWrite());
+
+        // A command that changes nothing saves the address book again, as its last save was not written
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        storage.flushAddressBook();
+        assertFalse(storage.hasFailedWrite());
+        assertEquals(2, failingOnceStub.saveCount);
+        assertEquals(new AddressBook(model.getAddressBook()), new AddressBook(failingOnceStub.readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_commandChangesFilteredList_filteredPersonListUpdated() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        assertEquals(model.getFilteredPersonList(), logic.getFilteredPersonList());
+
+        logic.execute(FindCommand.COMMAND_WORD + " Bob");
+        assertEquals(Collections.emptyList(), logic.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_addAfterFind_filteredPersonListKeepsFilter() throws Exception {
+        logic.execute(FindCommand.COMMAND_WORD + " Amy");
+        assertEquals(Collections.emptyList(), logic.getFilteredPersonList());
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        assertEquals(Collections.singletonList(new PersonBuilder(AMY).withTags().build()),
+                logic.getFilteredPersonList());
+        assertEquals(model.getFilteredPersonList(), logic.getFilteredPersonList());
+    }
+
+    @Test
+    public void executeBatch_allCommandsSucceed_success() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        CommandResult result = logic.executeBatch(Arrays.asList(addCommand, "", ListCommand.COMMAND_WORD));
+        assertEquals(String.format(BatchCommand.MESSAGE_SUCCESS, 2), result.getFeedbackToUser());
+
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(new PersonBuilder(AMY).withTags().build());
+        assertEquals(expectedModel, model);
+        assertEquals(model.getFilteredPersonList(), logic.getFilteredPersonList());
+    }
+
+    @Test
+    public void executeBatch_commandFails_modelUnchanged() {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        String expectedMessage = String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 2,
+                MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        assertThrows(CommandException.class, expectedMessage, () -> logic.executeBatch(
+                Arrays.asList(addCommand, "delete 9")));
+        assertEquals(new ModelManager(), model);
+        assertEquals(Collections.emptyList(), logic.getFilteredPersonList());
+    }
+
+    @Test
+    public void executeBatch_manyChanges_filteredPersonListChangedOnce() throws Exception {
+        List<String> commandTexts = new ArrayList<>();
+        getTypicalPersons().forEach(person -> commandTexts.add(PersonUtil.getAddCommand(person)));
+        logic.executeBatch(commandTexts);
+        AtomicInteger changeCount = new AtomicInteger();
+        logic.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> changeCount.incrementAndGet());
+
+        logic.executeBatch(Arrays.asList("delete 2", "delete 4", PersonUtil.getAddCommand(AMY), "delete 1"));
+        assertEquals(1, changeCount.get());
+        assertEquals(model.getFilteredPersonList(), logic.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_undoRedoAfterCommand_restoresStates() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(new PersonBuilder(AMY).withTags().build());
+
+        assertCommandSuccess(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_SUCCESS, new ModelManager());
+        assertEquals(Collections.emptyList(), logic.getFilteredPersonList());
+        assertCommandSuccess(RedoCommand.COMMAND_WORD, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandException(RedoCommand.COMMAND_WORD, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_undoAfterFailedBatch_undoesCommandBeforeBatch() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        assertThrows(CommandException.class, () -> logic.executeBatch(Arrays.asList("delete 1", "delete 9")));
+
+        assertCommandSuccess(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_SUCCESS, new ModelManager());
+    }
+
+    @Test
+    public void previewInBackground_notValidFindCommand_notExecuted() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(new PersonBuilder(AMY).withTags().build());
+
+        logic.previewInBackground("delete 1", unused -> fail());
+        logic.previewInBackground(FindCommand.COMMAND_WORD, unused -> fail());
+        logic.previewInBackground("clear", unused -> fail());
+        logic.stop();
+
+        assertEquals(expectedModel.getAddressBook(), model.getAddressBook());
+        assertEquals(expectedModel.getFilteredPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void previewInBackground_runtimeExceptionInCommand_logged() throws Exception {
+        model = new ModelManager() {
+            @Override
+            public void updateFilteredPersonList(Predicate<Person> predicate) {
+                throw DUMMY_RUNTIME_EXCEPTION;
+            }
+
+            @Override
+            public void updateFilteredPersonList(Predicate<Person> predicate, Collection<Person> candidates) {
+                throw DUMMY_RUNTIME_EXCEPTION;
+            }
+        };
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+
+        List<LogRecord> records = new CopyOnWriteArrayList<>();
+        Handler recordingHandler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                records.add(record);
+            }
+
+            @Override
+            public void flush() {}
+
+            @Override
+            public void close() {}
+        };
+        Logger logger = Logger.getLogger(LogicManager.class.getSimpleName());
+        logger.addHandler(recordingHandler);
+        try {
+            logic.previewInBackground(FindCommand.COMMAND_WORD + " Amy", unused -> fail());
+            logic.stop();
+        } finally {
+            logger.removeHandler(recordingHandler);
+        }
+
+        assertTrue(records.stream().anyMatch(record -> record.getLevel() == Level.SEVERE
+                && record.getMessage().contains(DUMMY_RUNTIME_EXCEPTION.getMessage())));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void execute_addressBookStillBeingRead_waitsAndShowsReadPersons() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(addressBookFilePath).saveAddressBook(getTypicalAddressBook());
+        CountDownLatch readAllowed = new CountDownLatch(1);
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookFilePath) {
+            @Override
+            public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+                try {
+                    readAllowed.await();
+                } catch (InterruptedException ie) {
+                    throw new AssertionError(ie);
+                }
+                return super.readAddressBook(filePath);
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        List<Person> initialPersons = Collections.unmodifiableList(getTypicalPersons());
+        logic = new LogicManager(model, storage, initialPersons);
+
+        // The initial persons are shown until the address book is read
+        assertEquals(initialPersons, logic.getFilteredPersonList());
+        assertEquals(new AddressBook(), model.getAddressBook());
+
+        readAllowed.countDown();
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(getTypicalAddressBook(), new AddressBook(model.getAddressBook()));
+        assertEquals(model.getFilteredPersonList(), logic.getFilteredPersonList());
+        assertFalse(model.canUndoAddressBook());
+
+        logic.execute("delete 1");
+        assertEquals(model.getFilteredPersonList(), logic.getFilteredPersonList());
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -146,6 +412,25 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * A stub class to throw an {@code IOException} the first time the save method is called.
+     */
+    private static class FailingOnceStorageStub extends JsonAddressBookStorage {
+        private volatile int saveCount;
+
+        private FailingOnceStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (saveCount++ == 0) {
+                throw DUMMY_IO_EXCEPTION;
+            }
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
     /**
      * A stub class to throw an {@code IOException} when the save method is called.
      */
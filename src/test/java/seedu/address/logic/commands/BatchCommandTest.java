@@ -0,0 +1,105 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code BatchCommand}.
+ */
+public class BatchCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullCommands_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BatchCommand(null));
+    }
+
+    @Test
+    public void execute_allCommandsSucceed_allChangesKept() {
+        BatchCommand batchCommand = new BatchCommand(Arrays.asList(
+                new AddCommand(AMY), new DeleteCommand(INDEX_FIRST_PERSON)));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+        expectedModel.deletePerson(expectedModel.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased()));
+
+        assertCommandSuccess(batchCommand, model, String.format(BatchCommand.MESSAGE_SUCCESS, 2), expectedModel);
+    }
+
+    @Test
+    public void execute_commandFails_noChangesKept() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 2);
+        BatchCommand batchCommand = new BatchCommand(Arrays.asList(
+                new AddCommand(AMY), new DeleteCommand(INDEX_FIRST_PERSON), new DeleteCommand(outOfBoundIndex)));
+
+        String expectedMessage = String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 3,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        assertCommandFailure(batchCommand, model, expectedMessage);
+    }
+
+    @Test
+    public void execute_consecutiveAddCommands_personListChangedOnce() throws Exception {
+        BatchCommand batchCommand = new BatchCommand(Arrays.asList(new AddCommand(AMY), new AddCommand(BOB)));
+        AtomicInteger changeCount = new AtomicInteger();
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) unused ->
+                changeCount.incrementAndGet());
+
+        batchCommand.execute(model);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+        expectedModel.addPerson(BOB);
+        assertEquals(expectedModel, model);
+        assertEquals(1, changeCount.get());
+    }
+
+    @Test
+    public void execute_duplicateInConsecutiveAddCommands_failsAtDuplicate() {
+        BatchCommand batchCommand = new BatchCommand(Arrays.asList(
+                new AddCommand(AMY), new AddCommand(BOB), new AddCommand(AMY)));
+
+        String expectedMessage = String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 3,
+                AddCommand.MESSAGE_DUPLICATE_PERSON);
+        assertCommandFailure(batchCommand, model, expectedMessage);
+    }
+
+    @Test
+    public void equals() {
+        BatchCommand batchCommand = new BatchCommand(Collections.singletonList(new AddCommand(AMY)));
+
+        // same values -> returns true
+        assertTrue(batchCommand.equals(new BatchCommand(Collections.singletonList(new AddCommand(AMY)))));
+
+        // same object -> returns true
+        assertTrue(batchCommand.equals(batchCommand));
+
+        // null -> returns false
+        assertFalse(batchCommand.equals(null));
+
+        // different commands -> returns false
+        assertFalse(batchCommand.equals(new BatchCommand(Collections.emptyList())));
+    }
+}
@@ -1,14 +1,20 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 public class ClearCommandTest {
 
@@ -29,4 +35,18 @@ public class ClearCommandTest {
         assertCommandSuccess(new ClearCommand(), model, ClearCommand.MESSAGE_SUCCESS, expectedModel);
     }
 
+    @Test
+    public void execute_nonEmptyAddressBook_singleChangeAndEdit() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        ReadOnlyAddressBook snapshot = model.getAddressBook().getSnapshot();
+        AtomicInteger changeCount = new AtomicInteger();
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change -> {
+            changeCount.incrementAndGet();
+        });
+
+        new ClearCommand().execute(model);
+        assertEquals(1, changeCount.get());
+        assertEquals(1, model.getAddressBook().getEditsSince(snapshot).get().size());
+    }
+
 }
@@ -5,13 +5,23 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -19,6 +29,11 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonHasTagsPredicate;
+import seedu.address.model.person.PhoneStartsWithPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -52,6 +67,16 @@ public class FindCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different tags -> returns false
+        PersonHasTagsPredicate tagsPredicate = prepareTagsPredicate("friends");
+        assertFalse(findFirstCommand.equals(new FindCommand(firstPredicate, tagsPredicate)));
+        assertTrue(new FindCommand(null, tagsPredicate).equals(new FindCommand(null, tagsPredicate)));
+
+        // different phone prefixes -> returns false
+        PhoneStartsWithPredicate phonePredicate = new PhoneStartsWithPredicate(List.of("9"));
+        assertFalse(findFirstCommand.equals(new FindCommand(firstPredicate, phonePredicate, null)));
+        assertTrue(new FindCommand(null, phonePredicate, null).equals(new FindCommand(null, phonePredicate, null)));
     }
 
     @Test
@@ -74,6 +99,137 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_fuzzyKeywords_personsWithCloseNamesFound() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Collections.emptyList(),
+                Arrays.asList("Meir", "kruz"));
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3) + "\n"
+                + String.format(FindCommand.MESSAGE_FUZZY_MATCHES, "kurz, meier");
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, CARL, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_manyFuzzyMatches_closestMatchesListed() {
+        // Twelve persons named Taa to Tal, each within one edit of Tac
+        Model modelWithSimilarNames = new ModelManager();
+        for (char letter = 'a'; letter <= 'l'; letter++) {
+            modelWithSimilarNames.addPerson(new PersonBuilder().withName("Ta" + letter)
+                    .withPhone("9000000" + (letter - 'a')).withEmail(letter + "@example.com").build());
+        }
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Collections.emptyList(),
+                Arrays.asList("Tac"));
+
+        // the exact match is ranked first, and only the closest matches are listed
+        String shownMatches = "tac, taa, tab, tad, tae, taf, tag, tah, tai, taj, ...";
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 12) + "\n"
+                + String.format(FindCommand.MESSAGE_FUZZY_MATCHES, shownMatches);
+        assertEquals(FindCommand.MAX_FUZZY_MATCHES_SHOWN, shownMatches.split(", ").length - 1);
+        assertEquals(expectedMessage, new FindCommand(predicate).execute(modelWithSimilarNames).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_fuzzyKeywordsWithoutCloseNames_noPersonFound() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Collections.emptyList(),
+                Arrays.asList("Zzyzx"));
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_tags_personsWithTagsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        PersonHasTagsPredicate predicate = prepareTagsPredicate("friends");
+        FindCommand command = new FindCommand(null, predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_tagsOnly_onlyPersonsWithTagsTested() {
+        // Enough untagged persons that testing only the candidates is worth it
+        TestedPersonsRecordingModel modelWithManyPersons = new TestedPersonsRecordingModel();
+        for (int i = 0; i < 100; i++) {
+            modelWithManyPersons.addPerson(new PersonBuilder().withName("Person " + i).withTags().build());
+        }
+        modelWithManyPersons.addPerson(ALICE);
+        modelWithManyPersons.addPerson(BENSON);
+        modelWithManyPersons.addPerson(DANIEL);
+
+        new FindCommand(null, prepareTagsPredicate("friends", "owesMoney")).execute(modelWithManyPersons);
+        assertEquals(Collections.singletonList(BENSON), modelWithManyPersons.getFilteredPersonList());
+        // Only the persons with both tags, as looked up in the tag index, were tested
+        assertEquals(Collections.singletonList(BENSON), modelWithManyPersons.testedPersons);
+    }
+
+    @Test
+    public void execute_keywordsAndTags_personsMatchingBothFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        NameContainsKeywordsPredicate namePredicate = preparePredicate("Meier Pauline");
+        PersonHasTagsPredicate tagsPredicate = prepareTagsPredicate("friends", "owesMoney");
+        FindCommand command = new FindCommand(namePredicate, tagsPredicate);
+        expectedModel.updateFilteredPersonList(namePredicate.and(tagsPredicate));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_phonePrefixes_personsWithPhonePrefixFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 4);
+        PhoneStartsWithPredicate predicate = new PhoneStartsWithPredicate(List.of("9482", "8765"));
+        FindCommand command = new FindCommand(null, predicate, null);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(DANIEL, ELLE, FIONA, GEORGE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_keywordsAndPhonePrefix_personsMatchingBothFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        NameContainsKeywordsPredicate namePredicate = preparePredicate("Kunz Meier");
+        PhoneStartsWithPredicate phonePredicate = new PhoneStartsWithPredicate(List.of("9482"));
+        FindCommand command = new FindCommand(namePredicate, phonePredicate, null);
+        expectedModel.updateFilteredPersonList(namePredicate.and(phonePredicate));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(FIONA), model.getFilteredPersonList());
+    }
+
+    /**
+     * A model that records the persons tested against the predicate of the filtered person list, and that fails if
+     * the predicate is to be tested against every person.
+     */
+    private static class TestedPersonsRecordingModel extends ModelManager {
+        private final List<Person> testedPersons = new ArrayList<>();
+
+        @Override
+        public void updateFilteredPersonList(Predicate<Person> predicate) {
+            throw new AssertionError("Every person should not be tested.");
+        }
+
+        @Override
+        public void updateFilteredPersonList(Predicate<Person> predicate, Collection<Person> candidates) {
+            super.updateFilteredPersonList(person -> {
+                testedPersons.add(person);
+                return predicate.test(person);
+            }, candidates);
+        }
+    }
+
+    /**
+     * Returns a {@code PersonHasTagsPredicate} that requires each of {@code tagNames}.
+     */
+    private PersonHasTagsPredicate prepareTagsPredicate(String... tagNames) {
+        return new PersonHasTagsPredicate(Arrays.stream(tagNames)
+                .map(tagName -> Set.of(new Tag(tagName)))
+                .collect(Collectors.toList()));
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
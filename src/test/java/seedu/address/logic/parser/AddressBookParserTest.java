@@ -6,14 +6,19 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
@@ -22,6 +27,8 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
@@ -31,6 +38,9 @@ import seedu.address.testutil.PersonUtil;
 
 public class AddressBookParserTest {
 
+    @TempDir
+    public Path testFolder;
+
     private final AddressBookParser parser = new AddressBookParser();
 
     @Test
@@ -88,6 +98,61 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseCommand_import() throws Exception {
+        Path commandFile = testFolder.resolve("commands.txt");
+        Files.write(commandFile, Arrays.asList(DeleteCommand.COMMAND_WORD + " 1", DeleteCommand.COMMAND_WORD + " 2"));
+        BatchCommand command = (BatchCommand) parser.parseCommand(BatchCommand.COMMAND_WORD + " " + commandFile);
+        assertEquals(new BatchCommand(Arrays.asList(
+                new DeleteCommand(INDEX_FIRST_PERSON), new DeleteCommand(INDEX_SECOND_PERSON))), command);
+    }
+
+    @Test
+    public void parseBatch_blankLines_skipped() throws Exception {
+        BatchCommand command = parser.parseBatch(Arrays.asList("", DeleteCommand.COMMAND_WORD + " 1", "   "));
+        assertEquals(new BatchCommand(Arrays.asList(new DeleteCommand(INDEX_FIRST_PERSON))), command);
+    }
+
+    @Test
+    public void parseBatch_invalidCommand_throwsParseExceptionWithCommandNumber() {
+        String expectedMessage = String.format(AddressBookParser.MESSAGE_INVALID_BATCH_COMMAND, 2,
+                MESSAGE_UNKNOWN_COMMAND);
+        assertThrows(ParseException.class, expectedMessage, () -> parser.parseBatch(
+                Arrays.asList(DeleteCommand.COMMAND_WORD + " 1", "", "unknownCommand")));
+    }
+
+    @Test
+    public void parseBatch_nestedImport_throwsParseException() throws Exception {
+        Path commandFile = testFolder.resolve("nested.txt");
+        Files.write(commandFile, Arrays.asList(DeleteCommand.COMMAND_WORD + " 1"));
+        String expectedMessage = String.format(AddressBookParser.MESSAGE_INVALID_BATCH_COMMAND, 1,
+                AddressBookParser.MESSAGE_NESTED_BATCH);
+        assertThrows(ParseException.class, expectedMessage, () -> parser.parseBatch(
+                Arrays.asList(BatchCommand.COMMAND_WORD + " " + commandFile)));
+    }
+
+    @Test
+    public void parseBatch_undoOrRedo_throwsParseException() {
+        String expectedMessage = String.format(AddressBookParser.MESSAGE_INVALID_BATCH_COMMAND, 2,
+                AddressBookParser.MESSAGE_HISTORY_IN_BATCH);
+        assertThrows(ParseException.class, expectedMessage, () -> parser.parseBatch(
+                Arrays.asList(ListCommand.COMMAND_WORD, UndoCommand.COMMAND_WORD)));
+        assertThrows(ParseException.class, expectedMessage, () -> parser.parseBatch(
+                Arrays.asList(ListCommand.COMMAND_WORD, RedoCommand.COMMAND_WORD)));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -5,11 +5,18 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonHasTagsPredicate;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.PhoneStartsWithPredicate;
+import seedu.address.model.tag.Tag;
 
 public class FindCommandParserTest {
 
@@ -31,4 +38,62 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyKeywords_returnsFindCommand() {
+        // fuzzy keywords only
+        assertParseSuccess(parser, " ~Alcie  ~Bbo", new FindCommand(new NameContainsKeywordsPredicate(
+                Collections.emptyList(), Arrays.asList("Alcie", "Bbo"))));
+
+        // exact and fuzzy keywords
+        assertParseSuccess(parser, "Alice ~Bbo Carol", new FindCommand(new NameContainsKeywordsPredicate(
+                Arrays.asList("Alice", "Carol"), Arrays.asList("Bbo"))));
+    }
+
+    @Test
+    public void parse_fuzzyMarkerWithoutKeyword_throwsParseException() {
+        assertParseFailure(parser, "Alice ~ Bob",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validTagArgs_returnsFindCommand() {
+        PersonHasTagsPredicate tagsPredicate = new PersonHasTagsPredicate(Arrays.asList(
+                Set.of(new Tag("friends"), new Tag("colleagues")), Collections.singleton(new Tag("owesMoney"))));
+
+        // tags only
+        assertParseSuccess(parser, " t/friends  colleagues t/owesMoney", new FindCommand(null, tagsPredicate));
+
+        // keywords and tags
+        NameContainsKeywordsPredicate namePredicate = new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob"));
+        assertParseSuccess(parser, " Alice Bob t/colleagues friends t/owesMoney ",
+                new FindCommand(namePredicate, tagsPredicate));
+    }
+
+    @Test
+    public void parse_invalidTagArgs_throwsParseException() {
+        assertParseFailure(parser, " Alice t/", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/friends t/owes*Money", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validPhoneArgs_returnsFindCommand() {
+        PhoneStartsWithPredicate phonePredicate = new PhoneStartsWithPredicate(List.of("9123", "8", "65"));
+
+        // phone prefixes only
+        assertParseSuccess(parser, " p/9123  8 p/65", new FindCommand(null, phonePredicate, null));
+
+        // keywords, phone prefixes and tags
+        NameContainsKeywordsPredicate namePredicate = new NameContainsKeywordsPredicate(List.of("Alice"));
+        PersonHasTagsPredicate tagsPredicate = new PersonHasTagsPredicate(List.of(Set.of(new Tag("friends"))));
+        assertParseSuccess(parser, " Alice p/9123 8 t/friends p/65",
+                new FindCommand(namePredicate, phonePredicate, tagsPredicate));
+    }
+
+    @Test
+    public void parse_invalidPhoneArgs_throwsParseException() {
+        assertParseFailure(parser, " Alice p/", Phone.MESSAGE_PREFIX_CONSTRAINTS);
+        assertParseFailure(parser, " p/9123 p/12a", Phone.MESSAGE_PREFIX_CONSTRAINTS);
+        assertParseFailure(parser, " p/+65", Phone.MESSAGE_PREFIX_CONSTRAINTS);
+    }
+
 }
@@ -0,0 +1,65 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class ImportCommandParserTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse(testFolder.resolve("missing.txt").toString()));
+    }
+
+    @Test
+    public void parse_validFile_returnsBatchCommand() throws Exception {
+        Path commandFile = testFolder.resolve("commands.txt");
+        Files.write(commandFile, Arrays.asList(DeleteCommand.COMMAND_WORD + " 1"));
+        assertParseSuccess(parser, " " + commandFile + " ",
+                new BatchCommand(Arrays.asList(new DeleteCommand(INDEX_FIRST_PERSON))));
+    }
+
+    @Test
+    public void parse_fileImportsItself_throwsParseException() throws Exception {
+        Path commandFile = testFolder.resolve("commands.txt");
+        Files.write(commandFile, Arrays.asList(DeleteCommand.COMMAND_WORD + " 1",
+                BatchCommand.COMMAND_WORD + " " + commandFile));
+        String expectedMessage = String.format(AddressBookParser.MESSAGE_INVALID_BATCH_COMMAND, 2,
+                AddressBookParser.MESSAGE_NESTED_BATCH);
+        assertParseFailure(parser, commandFile.toString(), expectedMessage);
+    }
+
+    @Test
+    public void parse_filesImportEachOther_throwsParseException() throws Exception {
+        Path firstFile = testFolder.resolve("first.txt");
+        Path secondFile = testFolder.resolve("second.txt");
+        Files.write(firstFile, Arrays.asList(BatchCommand.COMMAND_WORD + " " + secondFile));
+        Files.write(secondFile, Arrays.asList(BatchCommand.COMMAND_WORD + " " + firstFile));
+        String expectedMessage = String.format(AddressBookParser.MESSAGE_INVALID_BATCH_COMMAND, 1,
+                AddressBookParser.MESSAGE_NESTED_BATCH);
+        assertParseFailure(parser, firstFile.toString(), expectedMessage);
+    }
+}
@@ -102,6 +102,17 @@ public class ParserUtilTest {
         assertEquals(expectedPhone, ParserUtil.parsePhone(phoneWithWhitespace));
     }
 
+    @Test
+    public void parsePhonePrefix_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parsePhonePrefix(""));
+        assertThrows(ParseException.class, () -> ParserUtil.parsePhonePrefix(INVALID_PHONE));
+    }
+
+    @Test
+    public void parsePhonePrefix_validValueWithWhitespace_returnsTrimmedPrefix() throws Exception {
+        assertEquals("91", ParserUtil.parsePhonePrefix(WHITESPACE + "91" + WHITESPACE));
+    }
+
     @Test
     public void parseAddress_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseAddress((String) null));
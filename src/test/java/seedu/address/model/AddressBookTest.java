@@ -7,6 +7,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListChange.Edit;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
 
@@ -78,6 +80,76 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getVersion_personListModified_increases() {
+        long version = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.setPerson(ALICE, BOB);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.removePerson(BOB);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.resetData(getTypicalAddressBook());
+        assertTrue(addressBook.getVersion() > version);
+    }
+
+    @Test
+    public void getVersion_failedModification_unchanged() {
+        addressBook.addPerson(ALICE);
+        long version = addressBook.getVersion();
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPerson(ALICE));
+        assertEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void getSnapshot_addressBookModified_snapshotUnchanged() {
+        addressBook.addPerson(ALICE);
+        ReadOnlyAddressBook snapshot = addressBook.getSnapshot();
+        long version = addressBook.getVersion();
+
+        addressBook.addPerson(BOB);
+        addressBook.removePerson(ALICE);
+        assertEquals(Collections.singletonList(ALICE), snapshot.getPersonList());
+        assertEquals(version, snapshot.getVersion());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void getEditsSince_earlierSnapshot_returnsEditsInOrder() {
+        addressBook.addPerson(ALICE);
+        ReadOnlyAddressBook earlier = addressBook.getSnapshot();
+
+        addressBook.addPerson(BOB);
+        ReadOnlyAddressBook later = addressBook.getSnapshot();
+        addressBook.removePerson(ALICE);
+
+        List<Edit> edits = addressBook.getEditsSince(earlier).get();
+        assertEquals(2, edits.size());
+        assertEquals(1, edits.get(0).getFrom());
+        assertEquals(Collections.singletonList(BOB), edits.get(0).getAdded());
+        assertEquals(0, edits.get(1).getFrom());
+        assertEquals(Collections.singletonList(ALICE), edits.get(1).getRemoved());
+        assertEquals(edits.subList(0, 1), later.getEditsSince(earlier).get());
+        assertTrue(later.getEditsSince(later).get().isEmpty());
+    }
+
+    @Test
+    public void getEditsSince_notSnapshotOfSameAddressBook_returnsEmpty() {
+        addressBook.addPerson(ALICE);
+        ReadOnlyAddressBook snapshot = addressBook.getSnapshot();
+        addressBook.addPerson(BOB);
+
+        assertFalse(addressBook.getEditsSince(new AddressBook(addressBook)).isPresent());
+        assertFalse(addressBook.getEditsSince(getTypicalAddressBook().getSnapshot()).isPresent());
+        assertFalse(snapshot.getEditsSince(addressBook.getSnapshot()).isPresent());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -97,6 +169,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
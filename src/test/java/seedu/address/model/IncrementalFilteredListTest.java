@@ -0,0 +1,169 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class IncrementalFilteredListTest {
+
+    private static final Predicate<Integer> IS_EVEN = number -> number % 2 == 0;
+
+    private final ObservableList<Integer> source = FXCollections.observableArrayList();
+
+    @Test
+    public void constructor_nullPredicate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new IncrementalFilteredList<>(source, null));
+    }
+
+    @Test
+    public void constructor_filtersSource() {
+        source.setAll(numbers(0, 1000));
+        IncrementalFilteredList<Integer> view = new IncrementalFilteredList<>(source, IS_EVEN);
+        assertEquals(filter(source, IS_EVEN), view);
+    }
+
+    @Test
+    public void sourceChanged_singleChanges_matchesFilteredSource() {
+        IncrementalFilteredList<Integer> view = new IncrementalFilteredList<>(source, IS_EVEN);
+        List<Integer> replayedView = replayChanges(view);
+        Random random = new Random(0);
+
+        // Enough insertions at random positions to split nodes many times over, then enough removals to empty them
+        for (int i = 0; i < 3000; i++) {
+            source.add(random.nextInt(source.size() + 1), random.nextInt(100));
+        }
+        assertEquals(filter(source, IS_EVEN), view);
+        for (int i = 0; i < 1000; i++) {
+            source.set(random.nextInt(source.size()), random.nextInt(100));
+        }
+        assertEquals(filter(source, IS_EVEN), view);
+        while (source.size() > 10) {
+            source.remove(random.nextInt(source.size()));
+        }
+        assertEquals(filter(source, IS_EVEN), view);
+        assertEquals(view, replayedView);
+    }
+
+    @Test
+    public void sourceChanged_bulkChanges_matchesFilteredSource() {
+        source.setAll(numbers(0, 1000));
+        IncrementalFilteredList<Integer> view = new IncrementalFilteredList<>(source, IS_EVEN);
+        List<Integer> replayedView = replayChanges(view);
+
+        source.addAll(500, numbers(2000, 2100));
+        assertEquals(filter(source, IS_EVEN), view);
+        source.removeAll(numbers(0, 1000).stream().filter(number -> number % 3 == 0).collect(Collectors.toList()));
+        assertEquals(filter(source, IS_EVEN), view);
+        source.remove(100, 700);
+        assertEquals(filter(source, IS_EVEN), view);
+        source.setAll(numbers(5000, 5500));
+        assertEquals(filter(source, IS_EVEN), view);
+        source.clear();
+        assertEquals(List.of(), view);
+        assertEquals(view, replayedView);
+    }
+
+    @Test
+    public void setPredicate_refiltersSource() {
+        source.setAll(numbers(0, 1000));
+        IncrementalFilteredList<Integer> view = new IncrementalFilteredList<>(source, IS_EVEN);
+        List<Integer> replayedView = replayChanges(view);
+
+        Predicate<Integer> isMultipleOfThree = number -> number % 3 == 0;
+        view.setPredicate(isMultipleOfThree);
+        assertEquals(filter(source, isMultipleOfThree), view);
+        view.setPredicate(number -> false);
+        assertEquals(List.of(), view);
+        view.setPredicate(number -> true);
+        assertEquals(source, view);
+        assertEquals(view, replayedView);
+
+        assertThrows(NullPointerException.class, () -> view.setPredicate(null));
+    }
+
+    @Test
+    public void setPredicate_candidates_testsOnlyCandidates() {
+        source.setAll(numbers(0, 1000));
+        IncrementalFilteredList<Integer> view = new IncrementalFilteredList<>(source, IS_EVEN);
+        List<Integer> replayedView = replayChanges(view);
+
+        // A predicate that no element outside the candidates matches
+        Predicate<Integer> isUnderTwenty = number -> number < 20;
+        int[] candidateIndexes = IntStream.range(0, 20).map(index -> 19 - index).toArray();
+        view.setPredicate(isUnderTwenty.and(IS_EVEN), candidateIndexes);
+        assertEquals(filter(source, isUnderTwenty.and(IS_EVEN)), view);
+        assertEquals(view, replayedView);
+
+        // The elements that are not candidates are not tested, even if they would match
+        view.setPredicate(IS_EVEN, new int[] {998, 3, 500});
+        assertEquals(List.of(500, 998), view);
+        assertEquals(view, replayedView);
+
+        // Later changes to the source are tested against the predicate as usual
+        source.add(2000);
+        source.set(0, 4000);
+        assertEquals(List.of(4000, 500, 998, 2000), view);
+        view.setPredicate(IS_EVEN, new int[0]);
+        assertEquals(List.of(), view);
+        assertEquals(view, replayedView);
+    }
+
+    @Test
+    public void getSourceIndexAndGetViewIndex() {
+        source.setAll(numbers(0, 1000));
+        IncrementalFilteredList<Integer> view = new IncrementalFilteredList<>(source, number -> number % 7 == 0);
+        for (int i = 0; i < view.size(); i++) {
+            assertEquals(i * 7, view.getSourceIndex(i));
+            assertEquals(i, view.getViewIndex(i * 7));
+        }
+        assertEquals(-1, view.getViewIndex(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.getSourceIndex(view.size()));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.getViewIndex(source.size()));
+    }
+
+    @Test
+    public void modifyView_throwsUnsupportedOperationException() {
+        source.setAll(numbers(0, 10));
+        IncrementalFilteredList<Integer> view = new IncrementalFilteredList<>(source, IS_EVEN);
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> view.add(0));
+    }
+
+    /**
+     * Returns a list that is kept equal to {@code view} by applying the changes that listeners of {@code view} are
+     * notified of.
+     */
+    private static List<Integer> replayChanges(ObservableList<Integer> view) {
+        List<Integer> replayedView = new ArrayList<>(view);
+        view.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                replayedView.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                replayedView.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        });
+        return replayedView;
+    }
+
+    private static List<Integer> filter(List<Integer> numbers, Predicate<Integer> predicate) {
+        return numbers.stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the numbers from {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    private static List<Integer> numbers(int from, int to) {
+        return IntStream.range(from, to).boxed().collect(Collectors.toList());
+    }
+}
@@ -7,16 +7,27 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PhoneStartsWithPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +104,67 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_personsChange_filterKept() {
+        modelManager.addPersons(Arrays.asList(ALICE, BENSON, CARL));
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Meier", "Kurz"))
+                .lookUpWith(modelManager::getPersonsWithNameWord));
+        assertEquals(Arrays.asList(BENSON, CARL), modelManager.getFilteredPersonList());
+
+        // added persons show only if they match
+        modelManager.addPerson(DANIEL);
+        modelManager.addPerson(ELLE);
+        assertEquals(Arrays.asList(BENSON, CARL, DANIEL), modelManager.getFilteredPersonList());
+
+        // edited persons show only if they still match
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Meyer").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        Person editedElle = new PersonBuilder(ELLE).withName("Elle Meier").build();
+        modelManager.setPerson(ELLE, editedElle);
+        assertEquals(Arrays.asList(CARL, DANIEL, editedElle), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(CARL);
+        assertEquals(Arrays.asList(DANIEL, editedElle), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_candidates_filtersByPredicate() {
+        modelManager.addPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        PhoneStartsWithPredicate predicate = new PhoneStartsWithPredicate(List.of("9"));
+        modelManager.updateFilteredPersonList(predicate,
+                predicate.lookUpMatches(modelManager::getPersonsWithPhonePrefix));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), modelManager.getFilteredPersonList());
+
+        // candidates that are not in the address book are ignored
+        List<Person> candidates = Arrays.asList(CARL, ELLE);
+        modelManager.updateFilteredPersonList(candidates::contains, candidates);
+        assertEquals(Collections.singletonList(CARL), modelManager.getFilteredPersonList());
+
+        assertThrows(NullPointerException.class, () -> modelManager.updateFilteredPersonList(predicate, null));
+    }
+
+    @Test
+    public void updateFilteredPersonList_fewCandidates_filtersByPredicate() {
+        List<Person> persons = IntStream.range(0, 100)
+                .mapToObj(i -> new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(90000000 + i))
+                        .withEmail("person" + i + "@example.com").build())
+                .collect(Collectors.toList());
+        modelManager.addPersons(persons);
+        PhoneStartsWithPredicate predicate = new PhoneStartsWithPredicate(List.of("9000005", "90000099"));
+        modelManager.updateFilteredPersonList(predicate,
+                predicate.lookUpMatches(modelManager::getPersonsWithPhonePrefix));
+        List<Person> expectedPersons = new ArrayList<>(persons.subList(50, 60));
+        expectedPersons.add(persons.get(99));
+        assertEquals(expectedPersons, modelManager.getFilteredPersonList());
+
+        // the filter stays in effect as persons change
+        modelManager.deletePerson(persons.get(55));
+        modelManager.addPerson(new PersonBuilder(ALICE).withPhone("90000051").build());
+        expectedPersons.remove(persons.get(55));
+        expectedPersons.add(new PersonBuilder(ALICE).withPhone("90000051").build());
+        assertEquals(expectedPersons, modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,171 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class VersionedAddressBookTest {
+
+    private final VersionedAddressBook versionedAddressBook = new VersionedAddressBook(getTypicalAddressBook());
+
+    @Test
+    public void constructor_initialState_cannotUndoOrRedo() {
+        assertEquals(getTypicalAddressBook(), versionedAddressBook);
+        assertFalse(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+        assertThrows(VersionedAddressBook.NoUndoableStateException.class, versionedAddressBook::undo);
+        assertThrows(VersionedAddressBook.NoRedoableStateException.class, versionedAddressBook::redo);
+    }
+
+    @Test
+    public void commit_noChanges_nothingToUndo() {
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void discardUncommittedChange_uncommittedChanges_restoresLastCommittedState() {
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        AddressBook committedState = new AddressBook(versionedAddressBook);
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.setPerson(BENSON, new PersonBuilder(BENSON).withTags("colleague").build());
+
+        versionedAddressBook.discardUncommittedChange();
+        assertEquals(committedState, versionedAddressBook);
+
+        // The discarded changes are not a state of their own
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        assertEquals(getTypicalAddressBook(), versionedAddressBook);
+    }
+
+    @Test
+    public void undoRedo_committedChanges_restoresEachState() {
+        AddressBook initialState = new AddressBook(versionedAddressBook);
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        AddressBook middleState = new AddressBook(versionedAddressBook);
+        versionedAddressBook.setPerson(BENSON, new PersonBuilder(BENSON).withTags("colleague").build());
+        versionedAddressBook.commit();
+        AddressBook finalState = new AddressBook(versionedAddressBook);
+
+        versionedAddressBook.undo();
+        assertEquals(middleState, versionedAddressBook);
+        versionedAddressBook.undo();
+        assertEquals(initialState, versionedAddressBook);
+        assertFalse(versionedAddressBook.canUndo());
+
+        versionedAddressBook.redo();
+        assertEquals(middleState, versionedAddressBook);
+        versionedAddressBook.redo();
+        assertEquals(finalState, versionedAddressBook);
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void undo_bulkChanges_restoresIndexes() {
+        versionedAddressBook.resetData(new AddressBookBuilder().withPerson(AMY).withPerson(BOB).build());
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.hasPerson(ALICE));
+
+        versionedAddressBook.undo();
+        assertTrue(versionedAddressBook.hasPerson(ALICE));
+        assertFalse(versionedAddressBook.hasPerson(AMY));
+        Tag friends = Tag.of("friends");
+        assertEquals(getTypicalAddressBook().getPersonsWithTag(friends),
+                versionedAddressBook.getPersonsWithTag(friends));
+    }
+
+    @Test
+    public void commit_afterUndo_discardsUndoneStates() {
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+
+        versionedAddressBook.removePerson(BENSON);
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canRedo());
+        assertTrue(versionedAddressBook.hasPerson(ALICE));
+    }
+
+    @Test
+    public void undo_uncommittedChanges_discardsThem() {
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePerson(BENSON);
+
+        versionedAddressBook.undo();
+        assertEquals(getTypicalAddressBook(), versionedAddressBook);
+
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.redo();
+        assertFalse(versionedAddressBook.hasPerson(ALICE));
+        assertTrue(versionedAddressBook.hasPerson(BENSON));
+        assertFalse(versionedAddressBook.hasPerson(AMY));
+    }
+
+    @Test
+    public void commit_moreThanMaxUndoCount_forgetsOldestStates() {
+        for (int i = 0; i <= VersionedAddressBook.MAX_UNDO_COUNT; i++) {
+            versionedAddressBook.addPerson(new PersonBuilder().withName("Person " + i).build());
+            versionedAddressBook.commit();
+        }
+
+        for (int i = 0; i < VersionedAddressBook.MAX_UNDO_COUNT; i++) {
+            versionedAddressBook.undo();
+        }
+        assertFalse(versionedAddressBook.canUndo());
+        assertEquals(getTypicalAddressBook().getPersonList().size() + 1, versionedAddressBook.getPersonList().size());
+    }
+
+    @Test
+    public void resetInitialState_afterChanges_cannotUndoOrRedo() {
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        versionedAddressBook.removePerson(BENSON);
+
+        AddressBook newData = new AddressBookBuilder().withPerson(BOB).build();
+        versionedAddressBook.resetInitialState(newData);
+        assertEquals(newData, versionedAddressBook);
+        assertFalse(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+
+        // The replacement is not part of the next committed state
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        assertEquals(newData, versionedAddressBook);
+    }
+
+    @Test
+    public void undoRedo_changeVersion() {
+        versionedAddressBook.addPersons(Arrays.asList(AMY, BOB));
+        versionedAddressBook.commit();
+
+        long version = versionedAddressBook.getVersion();
+        versionedAddressBook.undo();
+        assertTrue(versionedAddressBook.getVersion() > version);
+        version = versionedAddressBook.getVersion();
+        versionedAddressBook.redo();
+        assertTrue(versionedAddressBook.getVersion() > version);
+    }
+}
@@ -1,11 +1,14 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -36,6 +39,10 @@ public class NameContainsKeywordsPredicateTest {
 
         // different person -> returns false
         assertFalse(firstPredicate.equals(secondPredicate));
+
+        // different fuzzy keywords -> returns false
+        assertFalse(firstPredicate.equals(new NameContainsKeywordsPredicate(firstPredicateKeywordList,
+                Collections.singletonList("second"))));
     }
 
     @Test
@@ -72,4 +79,103 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new PersonBuilder().withName("Alice").withPhone("12345")
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
+
+    @Test
+    public void lookUpWith_matchesSamePersonsAsTest() {
+        Person alice = new PersonBuilder().withName("Alice Bob").build();
+        Person carol = new PersonBuilder().withName("Carol").build();
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(Arrays.asList(alice, carol));
+
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("bOB", "dave"));
+        Predicate<Person> lookedUp = predicate.lookUpWith(persons::getPersonsWithNameWord);
+        assertTrue(predicate.test(alice) && lookedUp.test(alice));
+        assertFalse(predicate.test(carol) || lookedUp.test(carol));
+    }
+
+    @Test
+    public void lookUpWith_personsChange_matchesCurrentPersons() {
+        Person alice = new PersonBuilder().withName("Alice Bob").build();
+        UniquePersonList persons = new UniquePersonList();
+        Predicate<Person> lookedUp = new NameContainsKeywordsPredicate(Arrays.asList("bob"))
+                .lookUpWith(persons::getPersonsWithNameWord);
+        assertFalse(lookedUp.test(alice));
+
+        persons.add(alice);
+        assertTrue(lookedUp.test(alice));
+
+        Person renamedAlice = new PersonBuilder(alice).withName("Alice Carol").build();
+        persons.setPerson(alice, renamedAlice);
+        assertFalse(lookedUp.test(alice) || lookedUp.test(renamedAlice));
+    }
+
+    @Test
+    public void test_nameWithinEditsOfFuzzyKeywords_returnsTrue() {
+        // Misspelt keyword
+        NameContainsKeywordsPredicate predicate = fuzzyPredicate("Jonh");
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice John").build()));
+
+        // Misspelt name
+        assertTrue(predicate.test(new PersonBuilder().withName("Jon").build()));
+
+        // Long keyword, two edits away
+        predicate = fuzzyPredicate("sharlote");
+        assertTrue(predicate.test(new PersonBuilder().withName("Charlotte").build()));
+
+        // Exact keyword and fuzzy keyword
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("Bob"), Arrays.asList("Carlo"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Carol").build()));
+    }
+
+    @Test
+    public void test_nameTooManyEditsFromFuzzyKeywords_returnsFalse() {
+        // Two edits away from a short keyword
+        assertFalse(fuzzyPredicate("Jonh").test(new PersonBuilder().withName("Joan").build()));
+
+        // Keywords of up to two characters match exactly
+        assertFalse(fuzzyPredicate("Li").test(new PersonBuilder().withName("Lu").build()));
+
+        // Three edits away from a long keyword
+        assertFalse(fuzzyPredicate("sharlettey").test(new PersonBuilder().withName("Charlotte").build()));
+    }
+
+    @Test
+    public void findFuzzyMatches_ranksMatchesByEdits() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(Arrays.asList(new PersonBuilder().withName("Jon Tan").build(),
+                new PersonBuilder().withName("John Lim").withPhone("911").build(),
+                new PersonBuilder().withName("Joan Ng").withPhone("912").build()));
+
+        assertEquals(Arrays.asList("jon", "joan", "john"),
+                fuzzyPredicate("JON").findFuzzyMatches(persons::getNameWordsWithin));
+        assertEquals(Arrays.asList("lim", "john", "jon", "tan"),
+                fuzzyPredicate("lim", "tam", "jonh").findFuzzyMatches(persons::getNameWordsWithin));
+        assertEquals(Collections.emptyList(), new NameContainsKeywordsPredicate(Arrays.asList("jon"))
+                .findFuzzyMatches(persons::getNameWordsWithin));
+    }
+
+    @Test
+    public void lookUpWith_fuzzyMatches_matchesSamePersonsAsTest() {
+        Person john = new PersonBuilder().withName("John Lim").build();
+        Person joan = new PersonBuilder().withName("Joan Ng").withPhone("912").build();
+        Person carol = new PersonBuilder().withName("Carol").withPhone("913").build();
+        List<Person> personList = Arrays.asList(john, joan, carol);
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(personList);
+
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("carol"),
+                Arrays.asList("jonh"));
+        List<String> fuzzyMatches = predicate.findFuzzyMatches(persons::getNameWordsWithin);
+        Predicate<Person> lookedUp = predicate.lookUpWith(persons::getPersonsWithNameWord, fuzzyMatches);
+        for (Person person : personList) {
+            assertEquals(predicate.test(person), lookedUp.test(person));
+        }
+        assertEquals(Set.of(john, carol), Set.copyOf(
+                predicate.lookUpMatches(persons::getPersonsWithNameWord, fuzzyMatches)));
+    }
+
+    private static NameContainsKeywordsPredicate fuzzyPredicate(String... fuzzyKeywords) {
+        return new NameContainsKeywordsPredicate(Collections.emptyList(), Arrays.asList(fuzzyKeywords));
+    }
 }
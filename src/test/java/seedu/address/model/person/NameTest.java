@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -19,6 +20,19 @@ public class NameTest {
         assertThrows(IllegalArgumentException.class, () -> new Name(invalidName));
     }
 
+    @Test
+    public void ofValidated_validName_equalsConstructedName() {
+        assertEquals(new Name("peter jack"), Name.ofValidated("peter jack"));
+    }
+
+    @Test
+    public void isValidName_anyString_agreesWithValidationRegex() {
+        String[] names = {"", " ", "a", " a", "a ", "a  b", "A9 z0", "_", "a\tb", "\u00e9mile", "a\u00e9", "\u0661"};
+        for (String name : names) {
+            assertEquals(name.matches(Name.VALIDATION_REGEX), Name.isValidName(name), name);
+        }
+    }
+
     @Test
     public void isValidName() {
         // null name
@@ -0,0 +1,121 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonHasTagsPredicateTest {
+
+    private final Person friend = new PersonBuilder().withName("Alice").withTags("friends").build();
+    private final Person colleague = new PersonBuilder().withName("Bob").withTags("colleagues").build();
+    private final Person friendOwingMoney = new PersonBuilder().withName("Carol")
+            .withTags("friends", "owesMoney").build();
+    private final Person untagged = new PersonBuilder().withName("Dave").build();
+    private final List<Person> persons = Arrays.asList(friend, colleague, friendOwingMoney, untagged);
+
+    @Test
+    public void equals() {
+        PersonHasTagsPredicate firstPredicate = predicateOf(tags("friends"));
+        PersonHasTagsPredicate secondPredicate = predicateOf(tags("friends"), tags("owesMoney"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(predicateOf(tags("friends"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different tags -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_anyTagInGroup_returnsTrue() {
+        PersonHasTagsPredicate predicate = predicateOf(tags("friends", "colleagues"));
+        assertEquals(Arrays.asList(friend, colleague, friendOwingMoney), filter(predicate));
+    }
+
+    @Test
+    public void test_tagInEveryGroup_returnsTrue() {
+        PersonHasTagsPredicate predicate = predicateOf(tags("friends", "colleagues"), tags("owesMoney"));
+        assertEquals(Collections.singletonList(friendOwingMoney), filter(predicate));
+    }
+
+    @Test
+    public void test_noMatchingTag_returnsFalse() {
+        PersonHasTagsPredicate predicate = predicateOf(tags("family"));
+        assertEquals(Collections.emptyList(), filter(predicate));
+    }
+
+    @Test
+    public void lookUpWith_matchesSamePersonsAsTest() {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(persons);
+
+        List<PersonHasTagsPredicate> predicates = Arrays.asList(
+                predicateOf(tags("friends", "colleagues")),
+                predicateOf(tags("owesMoney"), tags("friends", "colleagues")),
+                predicateOf(tags("family"), tags("friends")),
+                predicateOf());
+        for (PersonHasTagsPredicate predicate : predicates) {
+            Predicate<Person> lookedUp = predicate.lookUpWith(uniquePersonList::getPersonsWithTag);
+            for (Person person : persons) {
+                assertEquals(predicate.test(person), lookedUp.test(person));
+            }
+        }
+    }
+
+    @Test
+    public void lookUpMatches_matchesSamePersonsAsTest() {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(persons);
+
+        List<PersonHasTagsPredicate> predicates = Arrays.asList(
+                predicateOf(tags("friends", "colleagues")),
+                predicateOf(tags("owesMoney"), tags("friends", "colleagues")),
+                predicateOf(tags("friends"), tags("owesMoney")),
+                predicateOf(tags("family"), tags("friends")));
+        for (PersonHasTagsPredicate predicate : predicates) {
+            assertEquals(Set.copyOf(filter(predicate)), Set.copyOf(
+                    predicate.lookUpMatches(uniquePersonList::getPersonsWithTag)));
+        }
+    }
+
+    @Test
+    public void lookUpMatches_noTagGroups_throwsIllegalArgumentException() {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        assertThrows(IllegalArgumentException.class, PersonHasTagsPredicate.MESSAGE_NO_TAG_GROUPS, () ->
+                predicateOf().lookUpMatches(uniquePersonList::getPersonsWithTag));
+    }
+
+    private List<Person> filter(Predicate<Person> predicate) {
+        return persons.stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    @SafeVarargs
+    private static PersonHasTagsPredicate predicateOf(Set<Tag>... tagGroups) {
+        return new PersonHasTagsPredicate(Arrays.asList(tagGroups));
+    }
+
+    private static Set<Tag> tags(String... tagNames) {
+        return Arrays.stream(tagNames).map(Tag::new).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PhoneStartsWithPredicateTest {
+
+    private final Person alice = new PersonBuilder().withName("Alice").withPhone("91234567").build();
+    private final Person bob = new PersonBuilder().withName("Bob").withPhone("91288888").build();
+    private final Person carol = new PersonBuilder().withName("Carol").withPhone("81234567").build();
+    private final List<Person> persons = Arrays.asList(alice, bob, carol);
+
+    @Test
+    public void equals() {
+        PhoneStartsWithPredicate firstPredicate = new PhoneStartsWithPredicate(Collections.singletonList("9"));
+        PhoneStartsWithPredicate secondPredicate = new PhoneStartsWithPredicate(Arrays.asList("9", "8"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new PhoneStartsWithPredicate(Collections.singletonList("9"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different prefixes -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_phoneStartsWithAnyPrefix_returnsTrue() {
+        assertEquals(Arrays.asList(alice, bob), filter(new PhoneStartsWithPredicate(List.of("912"))));
+        assertEquals(Arrays.asList(alice, carol), filter(new PhoneStartsWithPredicate(List.of("9123", "8"))));
+
+        // whole phone number
+        assertEquals(Collections.singletonList(bob), filter(new PhoneStartsWithPredicate(List.of("91288888"))));
+    }
+
+    @Test
+    public void test_phoneDoesNotStartWithPrefix_returnsFalse() {
+        // prefix found elsewhere in the phone number
+        assertEquals(Collections.emptyList(), filter(new PhoneStartsWithPredicate(List.of("234"))));
+
+        // prefix longer than the phone number
+        assertEquals(Collections.emptyList(), filter(new PhoneStartsWithPredicate(List.of("912345678"))));
+    }
+
+    @Test
+    public void lookUpMatches_matchesSamePersonsAsTest() {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(persons);
+
+        List<PhoneStartsWithPredicate> predicates = Arrays.asList(
+                new PhoneStartsWithPredicate(List.of("9")),
+                new PhoneStartsWithPredicate(List.of("9123", "81", "91")),
+                new PhoneStartsWithPredicate(List.of("7", "234")),
+                new PhoneStartsWithPredicate(List.of()));
+        for (PhoneStartsWithPredicate predicate : predicates) {
+            assertEquals(Set.copyOf(filter(predicate)),
+                    Set.copyOf(predicate.lookUpMatches(uniquePersonList::getPersonsWithPhonePrefix)));
+        }
+    }
+
+    private List<Person> filter(PhoneStartsWithPredicate predicate) {
+        return persons.stream().filter(predicate).collect(Collectors.toList());
+    }
+}
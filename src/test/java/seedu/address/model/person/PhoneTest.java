@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -19,6 +20,19 @@ public class PhoneTest {
         assertThrows(IllegalArgumentException.class, () -> new Phone(invalidPhone));
     }
 
+    @Test
+    public void ofValidated_validPhone_equalsConstructedPhone() {
+        assertEquals(new Phone("93121534"), Phone.ofValidated("93121534"));
+    }
+
+    @Test
+    public void isValidPhone_anyString_agreesWithValidationRegex() {
+        String[] phones = {"", "12", "123", "12a", "+6512345678", "123 456", "\u0661\u0662\u0663", "0000"};
+        for (String phone : phones) {
+            assertEquals(phone.matches(Phone.VALIDATION_REGEX), Phone.isValidPhone(phone), phone);
+        }
+    }
+
     @Test
     public void isValidPhone() {
         // null phone number
@@ -37,4 +51,20 @@ public class PhoneTest {
         assertTrue(Phone.isValidPhone("93121534"));
         assertTrue(Phone.isValidPhone("124293842033123")); // long phone numbers
     }
+
+    @Test
+    public void isValidPhonePrefix() {
+        // null prefix
+        assertThrows(NullPointerException.class, () -> Phone.isValidPhonePrefix(null));
+
+        // invalid prefixes
+        assertFalse(Phone.isValidPhonePrefix("")); // empty string
+        assertFalse(Phone.isValidPhonePrefix("9 1")); // spaces within digits
+        assertFalse(Phone.isValidPhonePrefix("+65")); // non-numeric
+        assertFalse(Phone.isValidPhonePrefix("\u0661")); // non-ASCII digit
+
+        // valid prefixes
+        assertTrue(Phone.isValidPhonePrefix("9")); // single digit
+        assertTrue(Phone.isValidPhonePrefix("93121534"));
+    }
 }
@@ -4,19 +4,29 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -47,6 +57,34 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameNameAndEmailOnly_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build()));
+    }
+
+    @Test
+    public void contains_personWithSameNameOnly_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).withEmail(VALID_EMAIL_BOB).build();
+        assertFalse(uniquePersonList.contains(editedAlice));
+    }
+
+    @Test
+    public void contains_afterSetPerson_reflectsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void contains_afterRemove_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -127,6 +165,64 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_manyPersonsInAnyOrder_removesEachPerson() {
+        List<Person> persons = buildPersons(100);
+        uniquePersonList.addAll(persons);
+
+        // Persons far from the end of the list move back further with each removal
+        List<Person> expectedPersons = new ArrayList<>(persons);
+        for (int i = 0; i < persons.size(); i += 2) {
+            Person toRemove = persons.get((i * 37) % persons.size());
+            if (expectedPersons.remove(toRemove)) {
+                uniquePersonList.remove(toRemove);
+            }
+            assertEquals(expectedPersons, uniquePersonList.asUnmodifiableObservableList());
+        }
+    }
+
+    @Test
+    public void setPerson_afterRemovals_replacesPersonInPlace() {
+        List<Person> persons = buildPersons(50);
+        uniquePersonList.addAll(persons);
+        for (int i = 0; i < 10; i++) {
+            uniquePersonList.remove(persons.get(i));
+        }
+
+        Person target = persons.get(30);
+        Person editedPerson = new PersonBuilder(target).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(target, editedPerson);
+        assertEquals(editedPerson, uniquePersonList.asUnmodifiableObservableList().get(20));
+
+        // The edited person can be found again, and the replaced person no longer can
+        uniquePersonList.remove(editedPerson);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(target));
+        assertEquals(39, uniquePersonList.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void remove_equalPerson_removesPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(new PersonBuilder(ALICE).build());
+        assertEquals(Collections.singletonList(BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_afterBulkOperations_removesPerson() {
+        List<Person> persons = buildPersons(20);
+        uniquePersonList.addAll(persons);
+        uniquePersonList.removeAll(persons.subList(0, 5));
+        Person editedPerson = new PersonBuilder(persons.get(10)).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPersons(Map.of(persons.get(10), editedPerson));
+
+        uniquePersonList.remove(editedPerson);
+        uniquePersonList.remove(persons.get(19));
+        uniquePersonList.remove(persons.get(5));
+        assertEquals(persons.subList(6, 10), uniquePersonList.asUnmodifiableObservableList().subList(0, 4));
+        assertEquals(persons.subList(11, 19), uniquePersonList.asUnmodifiableObservableList().subList(4, 12));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,9 +258,271 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameNameAndEmail_throwsDuplicatePersonException() {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, editedAlice);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void setPersons_list_replacesIdentityIndex() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void addAll_persons_addsPersonsInOneChange() {
+        uniquePersonList.add(ALICE);
+        AtomicInteger changeCount = countChanges();
+        uniquePersonList.addAll(Arrays.asList(BOB, CARL));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertEquals(1, changeCount.get());
+        assertTrue(uniquePersonList.contains(CARL));
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, ALICE)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, BOB)));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void setPersons_mapWithEqualCopyOfPerson_unindexesReplacedPerson() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").withTags().build();
+        uniquePersonList.setPersons(Map.of(aliceCopy, editedAlice));
+
+        assertEquals(Collections.singleton(editedAlice), uniquePersonList.getPersonsWithNameWord("Pauline"));
+        assertTrue(uniquePersonList.getPersonsWithNameWord("Alice").isEmpty());
+        for (Tag tag : ALICE.getTags()) {
+            assertTrue(uniquePersonList.getPersonsWithTag(tag).isEmpty());
+        }
+    }
+
+    @Test
+    public void removeAll_existingPersons_removesPersonsInOneChange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        AtomicInteger changeCount = countChanges();
+        uniquePersonList.removeAll(Arrays.asList(CARL, ALICE));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertEquals(1, changeCount.get());
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.getPersonsWithNameWord("carl").isEmpty());
+    }
+
+    @Test
+    public void removeAll_personDoesNotExist_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(Arrays.asList(ALICE, BOB)));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void setPersons_map_replacesPersonsInOneChange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Person renamedCarl = new PersonBuilder(CARL).withName("Carl Tan").build();
+        AtomicInteger changeCount = countChanges();
+        uniquePersonList.setPersons(Map.of(ALICE, editedAlice, CARL, renamedCarl));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(editedAlice, BOB, renamedCarl));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertEquals(1, changeCount.get());
+        assertEquals(Collections.singleton(renamedCarl), uniquePersonList.getPersonsWithNameWord("tan"));
+        assertTrue(uniquePersonList.getPersonsWithNameWord("kurz").isEmpty());
+    }
+
+    @Test
+    public void setPersons_mapWithTargetNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPersons(Map.of(BOB, CARL)));
+    }
+
+    @Test
+    public void setPersons_mapWithNonUniqueResult_throwsDuplicatePersonException() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        Person editedBob = new PersonBuilder(BOB).withName(ALICE.getName().fullName)
+                .withPhone(ALICE.getPhone().value).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(Map.of(BOB, editedBob)));
+
+        // Persons may swap identities as long as the list ends up unique
+        Person aliceAsBob = new PersonBuilder(BOB).build();
+        Person bobAsAlice = new PersonBuilder(ALICE).build();
+        uniquePersonList.setPersons(Map.of(ALICE, aliceAsBob, BOB, bobAsAlice));
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void getPersonsWithNameWord_anyCase_returnsPersonsWithWord() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Collections.singleton(ALICE), uniquePersonList.getPersonsWithNameWord("pAULINE"));
+        assertTrue(uniquePersonList.getPersonsWithNameWord("Paul").isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithNameWord_listChanged_reflectsChanges() {
+        uniquePersonList.add(ALICE);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertTrue(uniquePersonList.getPersonsWithNameWord("Pauline").isEmpty());
+        assertEquals(Collections.singleton(renamedAlice), uniquePersonList.getPersonsWithNameWord("tan"));
+
+        uniquePersonList.remove(renamedAlice);
+        assertTrue(uniquePersonList.getPersonsWithNameWord("alice").isEmpty());
+
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        UniquePersonList copy = new UniquePersonList();
+        copy.setPersons(uniquePersonList);
+        uniquePersonList.remove(BOB);
+        assertEquals(Collections.singleton(BOB), copy.getPersonsWithNameWord("bob"));
+    }
+
+    @Test
+    public void getPersonsWithTag_listChanged_reflectsChanges() {
+        Tag friends = new Tag("friends");
+        Tag husband = new Tag(VALID_TAG_HUSBAND);
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        assertEquals(Collections.singleton(ALICE), uniquePersonList.getPersonsWithTag(friends));
+        assertEquals(Collections.singleton(BOB), uniquePersonList.getPersonsWithTag(husband));
+
+        Person untaggedBob = new PersonBuilder(BOB).withTags().build();
+        uniquePersonList.setPerson(BOB, untaggedBob);
+        assertTrue(uniquePersonList.getPersonsWithTag(husband).isEmpty());
+
+        uniquePersonList.remove(ALICE);
+        assertTrue(uniquePersonList.getPersonsWithTag(friends).isEmpty());
+    }
+
+    @Test
+    public void getNameWordsWithin_listChanged_reflectsChanges() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        assertEquals(Map.of("alice", 1), uniquePersonList.getNameWordsWithin("Alcie", 1));
+
+        Person alex = new PersonBuilder(ALICE).withName("Alex Pauline").build();
+        uniquePersonList.setPerson(ALICE, alex);
+        assertEquals(Map.of("alex", 1), uniquePersonList.getNameWordsWithin("ALIX", 1));
+        assertTrue(uniquePersonList.getNameWordsWithin("Alcie", 1).isEmpty());
+
+        uniquePersonList.remove(alex);
+        assertTrue(uniquePersonList.getNameWordsWithin("alex", 1).isEmpty());
+
+        UniquePersonList copiedList = new UniquePersonList();
+        copiedList.setPersons(uniquePersonList);
+        assertEquals(uniquePersonList.getNameWordsWithin("Bob", 1), copiedList.getNameWordsWithin("Bob", 1));
+        assertThrows(IllegalArgumentException.class, () -> uniquePersonList.getNameWordsWithin("Bob", -1));
+    }
+
+    @Test
+    public void getPersonsWithPhonePrefix_listChanged_reflectsChanges() {
+        Person alice = new PersonBuilder(ALICE).withPhone("91234567").build();
+        Person bob = new PersonBuilder(BOB).withPhone("91299999").build();
+        uniquePersonList.setPersons(Arrays.asList(alice, bob));
+        assertEquals(Set.of(alice, bob), uniquePersonList.getPersonsWithPhonePrefix("912"));
+        assertEquals(Collections.singleton(alice), uniquePersonList.getPersonsWithPhonePrefix("91234567"));
+        assertTrue(uniquePersonList.getPersonsWithPhonePrefix("912345678").isEmpty());
+        assertTrue(uniquePersonList.getPersonsWithPhonePrefix("8").isEmpty());
+
+        Person editedBob = new PersonBuilder(bob).withPhone("81299999").build();
+        uniquePersonList.setPerson(bob, editedBob);
+        assertEquals(Collections.singleton(alice), uniquePersonList.getPersonsWithPhonePrefix("912"));
+        assertEquals(Collections.singleton(editedBob), uniquePersonList.getPersonsWithPhonePrefix("8"));
+
+        uniquePersonList.remove(alice);
+        assertTrue(uniquePersonList.getPersonsWithPhonePrefix("9").isEmpty());
+
+        UniquePersonList copiedList = new UniquePersonList();
+        copiedList.setPersons(uniquePersonList);
+        assertEquals(Collections.singleton(editedBob), copiedList.getPersonsWithPhonePrefix("812"));
+    }
+
+    @Test
+    public void undoRedo_recordedChange_restoresContentsAndIndexesInOneChange() {
+        List<Person> persons = buildPersons(30);
+        uniquePersonList.addAll(persons);
+        uniquePersonList.recordChanges();
+        Person editedPerson = new PersonBuilder(persons.get(20)).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.remove(persons.get(3));
+        uniquePersonList.setPerson(persons.get(20), editedPerson);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.removeAll(persons.subList(10, 15));
+        List<Person> personsAfterChange = new ArrayList<>(uniquePersonList.asUnmodifiableObservableList());
+        PersonListChange change = uniquePersonList.takeChange();
+        AtomicInteger changeCount = countChanges();
+
+        uniquePersonList.undo(change);
+        assertEquals(persons, uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount.get());
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertEquals(Collections.emptySet(), uniquePersonList.getPersonsWithTag(Tag.of(VALID_TAG_HUSBAND)));
+
+        uniquePersonList.redo(change);
+        assertEquals(personsAfterChange, uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(2, changeCount.get());
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertEquals(Collections.singleton(editedPerson),
+                uniquePersonList.getPersonsWithTag(Tag.of(VALID_TAG_HUSBAND)));
+
+        // The positions of the persons are kept up to date as well
+        uniquePersonList.remove(editedPerson);
+        uniquePersonList.remove(persons.get(29));
+        uniquePersonList.remove(ALICE);
+        assertEquals(personsAfterChange.size() - 3, uniquePersonList.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void redo_listChangedSinceChange_throwsIllegalArgumentException() {
+        uniquePersonList.recordChanges();
+        uniquePersonList.add(ALICE);
+        PersonListChange change = uniquePersonList.takeChange();
+        uniquePersonList.add(BOB);
+
+        assertThrows(IllegalArgumentException.class, () -> uniquePersonList.redo(change));
+        assertThrows(IllegalArgumentException.class, () -> uniquePersonList.undo(change));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniquePersonList.asUnmodifiableObservableList().remove(0));
     }
+
+    /**
+     * Returns a counter of the changes that listeners of {@code uniquePersonList} are notified of from now on.
+     */
+    private AtomicInteger countChanges() {
+        AtomicInteger changeCount = new AtomicInteger();
+        uniquePersonList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Person>) change -> changeCount.incrementAndGet());
+        return changeCount;
+    }
+
+    /**
+     * Returns {@code count} persons with distinct names.
+     */
+    private static List<Person> buildPersons(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        return persons;
+    }
 }
@@ -0,0 +1,106 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+
+public class WordTrigramIndexTest {
+
+    private final Set<String> words = new HashSet<>();
+    private final WordTrigramIndex index = new WordTrigramIndex(words);
+
+    @Test
+    public void findWordsWithin_findsWordsWithinDistance() {
+        addAll("john", "jon", "joan", "jonathan", "jane", "li", "lim", "charlotte");
+
+        assertEquals(Map.of("john", 0, "jon", 1, "joan", 1), index.findWordsWithin("john", 1));
+        assertEquals(Map.of("john", 1, "jon", 1), index.findWordsWithin("jonh", 1)); // Swapped or deleted characters
+        assertEquals(Map.of("charlotte", 2), index.findWordsWithin("sharlote", 2));
+        assertEquals(Map.of("li", 1, "lim", 0), index.findWordsWithin("lim", 1));
+        assertEquals(Map.of(), index.findWordsWithin("xyz", 1));
+    }
+
+    @Test
+    public void findWordsWithin_wordsChange_matchesMeasuringEveryWord() {
+        Random random = new Random(0);
+        for (int round = 0; round < 20; round++) {
+            // Enough removals to rebuild the index a few times over
+            for (int i = 0; i < 300; i++) {
+                add(randomWord(random));
+            }
+            for (String word : new ArrayList<>(words)) {
+                if (random.nextBoolean()) {
+                    remove(word);
+                }
+            }
+
+            for (int i = 0; i < 20; i++) {
+                String word = randomWord(random);
+                int maxDistance = random.nextInt(3);
+                assertEquals(findByMeasuringEveryWord(word, maxDistance), index.findWordsWithin(word, maxDistance),
+                        word);
+            }
+        }
+    }
+
+    @Test
+    public void rebuild_wordsReplaced_indexesNewWords() {
+        addAll("john", "jane");
+        words.clear();
+        words.add("joan");
+        index.rebuild();
+        assertEquals(Map.of("joan", 1), index.findWordsWithin("john", 1));
+    }
+
+    private void add(String word) {
+        if (words.add(word)) {
+            index.add(word);
+        }
+    }
+
+    private void addAll(String... words) {
+        for (String word : words) {
+            add(word);
+        }
+    }
+
+    private void remove(String word) {
+        if (words.remove(word)) {
+            index.remove(word);
+        }
+    }
+
+    private Map<String, Integer> findByMeasuringEveryWord(String word, int maxDistance) {
+        Map<String, Integer> wordsWithin = new HashMap<>();
+        for (String candidate : words) {
+            int distance = StringUtil.editDistance(word, candidate, maxDistance);
+            if (distance <= maxDistance) {
+                wordsWithin.put(candidate, distance);
+            }
+        }
+        return wordsWithin;
+    }
+
+    /**
+     * Returns a word of up to 8 of a few letters, so that many words are within a few edits of each other.
+     */
+    private static String randomWord(Random random) {
+        List<Character> letters = List.of('a', 'b', 'c', 'd');
+        StringBuilder word = new StringBuilder();
+        int length = 1 + random.nextInt(8);
+        for (int i = 0; i < length; i++) {
+            word.append(letters.get(random.nextInt(letters.size())));
+        }
+        return word.toString();
+    }
+}
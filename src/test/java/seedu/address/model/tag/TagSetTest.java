@@ -0,0 +1,86 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag COLLEAGUES = new Tag("colleagues");
+    private static final Tag FAMILY = new Tag("family");
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagSet.of(null));
+    }
+
+    @Test
+    public void of_emptyCollections_returnsSameSet() {
+        assertSame(TagSet.of(Collections.emptySet()), TagSet.of(new ArrayList<>()));
+    }
+
+    @Test
+    public void of_tags_orderedByNameWithoutDuplicates() {
+        TagSet tagSet = TagSet.of(Arrays.asList(FRIENDS, FAMILY, new Tag("friends"), COLLEAGUES));
+        assertEquals(Arrays.asList(COLLEAGUES, FAMILY, FRIENDS), new ArrayList<>(tagSet));
+        assertEquals(3, tagSet.size());
+    }
+
+    @Test
+    public void of_tags_sharesTagInstances() {
+        TagSet tagSet = TagSet.of(Collections.singleton(new Tag("owesMoney")));
+        assertSame(Tag.of("owesMoney"), tagSet.iterator().next());
+    }
+
+    @Test
+    public void contains() {
+        TagSet tagSet = TagSet.of(Arrays.asList(FRIENDS, FAMILY));
+        assertTrue(tagSet.contains(new Tag("family")));
+        assertFalse(tagSet.contains(COLLEAGUES));
+        assertFalse(tagSet.contains("friends"));
+        assertFalse(tagSet.contains(null));
+    }
+
+    @Test
+    public void equals() {
+        Set<Tag> hashSet = new HashSet<>(Arrays.asList(FRIENDS, FAMILY));
+        TagSet tagSet = TagSet.of(hashSet);
+
+        // same tags in any set -> returns true, with the same hash code
+        assertTrue(tagSet.equals(hashSet));
+        assertTrue(hashSet.equals(tagSet));
+        assertEquals(hashSet.hashCode(), tagSet.hashCode());
+
+        // same tags in another tag set -> returns true
+        assertTrue(tagSet.equals(TagSet.of(Arrays.asList(FAMILY, FRIENDS, FAMILY))));
+
+        // different tags -> returns false
+        assertFalse(tagSet.equals(TagSet.of(Collections.singleton(FRIENDS))));
+    }
+
+    @Test
+    public void modify_anyMutator_throwsUnsupportedOperationException() {
+        TagSet tagSet = TagSet.of(Collections.singleton(FRIENDS));
+        List<Tag> noTags = Collections.emptyList();
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(FAMILY));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.addAll(noTags));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(COLLEAGUES));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.removeAll(noTags));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.removeIf(tag -> false));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.retainAll(noTags));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.clear());
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.iterator().remove());
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,27 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("not valid"));
+    }
+
+    @Test
+    public void of_sameTagName_returnsSameTag() {
+        Tag tag = Tag.of("friends");
+        assertSame(tag, Tag.of(new String("friends")));
+        assertEquals(new Tag("friends"), tag);
+    }
+
+    @Test
+    public void isValidTagName_anyString_agreesWithValidationRegex() {
+        String[] tagNames = {"", "a", "owesMoney", "owes money", "owes_money", "42", "caf\u00e9", " a"};
+        for (String tagName : tagNames) {
+            assertEquals(tagName.matches(Tag.VALIDATION_REGEX), Tag.isValidTagName(tagName), tagName);
+        }
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
@@ -5,12 +5,18 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -44,4 +50,30 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_duplicateBeforeInvalidPerson_reportsDuplicate() {
+        JsonAdaptedPerson alice = new JsonAdaptedPerson(TypicalPersons.ALICE);
+        JsonAdaptedPerson invalid = new JsonAdaptedPerson(TypicalPersons.BENSON.getName().fullName + "*",
+                "98765432", "johnd@example.com", "311, Clementi Ave 2, #02-25", new ArrayList<>());
+        JsonSerializableAddressBook addressBook = new JsonSerializableAddressBook(Arrays.asList(alice, alice, invalid));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                addressBook::toModelType);
+
+        JsonSerializableAddressBook invalidFirst = new JsonSerializableAddressBook(Arrays.asList(alice, invalid, alice));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, invalidFirst::toModelType);
+    }
+
+    @Test
+    public void toModelType_manyPersons_keepsOrder() throws Exception {
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        AddressBook expectedAddressBook = new AddressBook();
+        for (int i = 0; i < 10000; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80000000 + i))
+                    .build();
+            adaptedPersons.add(new JsonAdaptedPerson(person));
+            expectedAddressBook.addPerson(person);
+        }
+        assertEquals(expectedAddressBook, new JsonSerializableAddressBook(adaptedPersons).toModelType());
+    }
+
 }
@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class MappedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidCacheCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new MappedAddressBookStorage(testFolder, 0));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(testFolder.resolve("NonExistentFile.bin"));
+        assertFalse(storage.readAddressBook().isPresent());
+        assertFalse(storage.readAddressBookLazily().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(storage.readAddressBookLazily().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original, filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook(filePath).get()));
+        assertEquals(original, new AddressBook(storage.readAddressBookLazily().get()));
+    }
+
+    @Test
+    public void readAddressBookLazily_cacheSmallerThanBook_decodesPersonsAgain() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath, 2);
+        storage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = storage.readAddressBookLazily().get();
+        assertEquals(original.getPersonList().size(), readBack.getPersonList().size());
+        for (int i = original.getPersonList().size() - 1; i >= 0; i--) {
+            assertEquals(original.getPersonList().get(i), readBack.getPersonList().get(i));
+        }
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+    }
+
+    @Test
+    public void readAddressBookLazily_modifyList_throwsUnsupportedOperationException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        ReadOnlyAddressBook readBack = storage.readAddressBookLazily().get();
+        assertThrows(UnsupportedOperationException.class, () -> readBack.getPersonList().remove(0));
+    }
+
+    @Test
+    public void saveAddressBook_lazilyReadFile_fileReplaced() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook lazilyRead = storage.readAddressBookLazily().get();
+
+        AddressBook changed = new AddressBook(original);
+        changed.removePerson(ALICE);
+        storage.saveAddressBook(changed);
+        assertEquals(changed, new AddressBook(storage.readAddressBook().get()));
+
+        // The lazily read address book is not affected by the save
+        assertEquals(original.getPersonList(), lazilyRead.getPersonList());
+    }
+
+    @Test
+    public void readAddressBookLazily_corruptedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        content[content.length / 2] ^= 1;
+        Files.write(filePath, content);
+
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        assertThrows(DataConversionException.class, storage::readAddressBookLazily);
+        assertThrows(DataConversionException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBookLazily_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length - 12));
+
+        assertThrows(DataConversionException.class, new MappedAddressBookStorage(filePath)::readAddressBookLazily);
+    }
+
+}
@@ -0,0 +1,154 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindAddressBookStorage(null));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("TempAddressBook.json")));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void readSave_allInOrder_success() throws Exception {
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("TempAddressBook.json")));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // Reading waits for pending saves, so the latest save is read back
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_writtenOnce() throws Exception {
+        SaveCountingStorageStub stub = new SaveCountingStorageStub(testFolder.resolve("TempAddressBook.json"));
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(stub);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        storage.flushAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        storage.flushAddressBook();
+
+        assertEquals(1, stub.saveCount);
+    }
+
+    @Test
+    public void saveAddressBook_modifiedAfterSave_writesAddressBookAsSaved() throws Exception {
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("TempAddressBook.json")));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+
+        // A modified address book is saved again, however few of its persons changed
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_coalescedSaves_writtenAtMostOncePerChange() throws Exception {
+        SaveCountingStorageStub stub = new SaveCountingStorageStub(testFolder.resolve("TempAddressBook.json"));
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(stub);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        storage.flushAddressBook();
+
+        assertTrue(stub.saveCount >= 1 && stub.saveCount <= 2);
+        assertEquals(original, new AddressBook(stub.readAddressBook().get()));
+    }
+
+    @Test
+    public void flushAddressBook_failedWrite_throwsIoException() throws Exception {
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(
+                new JsonAddressBookIoExceptionThrowingStub(testFolder.resolve("TempAddressBook.json")));
+
+        // The failure only surfaces once the background write has happened
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, storage::flushAddressBook);
+    }
+
+    @Test
+    public void hasFailedWrite_failedWrite_trueUntilSavedAgain() throws Exception {
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(
+                new JsonAddressBookIoExceptionThrowingStub(testFolder.resolve("TempAddressBook.json")));
+        AddressBook original = getTypicalAddressBook();
+        assertFalse(storage.hasFailedWrite());
+
+        storage.saveAddressBook(original);
+        assertThrows(IOException.class, storage::flushAddressBook);
+        assertTrue(storage.hasFailedWrite());
+
+        // Saving the same address book again is not skipped, and retries the write
+        storage.saveAddressBook(original);
+        assertFalse(storage.hasFailedWrite());
+        assertThrows(IOException.class, storage::flushAddressBook);
+        assertTrue(storage.hasFailedWrite());
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that counts how many times it has been asked to save.
+     */
+    private static class SaveCountingStorageStub extends JsonAddressBookStorage {
+        private volatile int saveCount;
+
+        private SaveCountingStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveCount++;
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that throws an {@code IOException} when the save method is called.
+     */
+    private static class JsonAddressBookIoExceptionThrowingStub extends JsonAddressBookStorage {
+        private JsonAddressBookIoExceptionThrowingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            throw new IOException("dummy exception");
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.net.URL;
@@ -75,6 +76,13 @@ public class UiPartTest {
         assertThrows(AssertionError.class, () -> new TestUiPart<Object>(INVALID_FILE_PATH, new Object()));
     }
 
+    @Test
+    public void constructor_root_usesRootWithoutFxmlFile() {
+        TestFxmlObject root = new TestFxmlObject("Built in code");
+        assertSame(root, new CodeBuiltTestUiPart(root).getRoot());
+        assertThrows(NullPointerException.class, () -> new CodeBuiltTestUiPart(null));
+    }
+
     private URL getTestFileUrl(String testFilePath) {
         String testFilePathInView = "/view/" + testFilePath;
         URL testFileUrl = MainApp.class.getResource(testFilePathInView);
@@ -111,4 +119,15 @@ public class UiPartTest {
 
     }
 
+    /**
+     * UiPart whose scene graph is built in code, used for testing.
+     */
+    private static class CodeBuiltTestUiPart extends UiPart<TestFxmlObject> {
+
+        CodeBuiltTestUiPart(TestFxmlObject root) {
+            super(root);
+        }
+
+    }
+
 }